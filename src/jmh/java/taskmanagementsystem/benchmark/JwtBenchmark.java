@@ -0,0 +1,34 @@
+package taskmanagementsystem.benchmark;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.jwt.JwtTokenProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private final JwtTokenProvider jwtTokenProvider =
+            new JwtTokenProvider(Duration.ofMinutes(15), Duration.ofDays(14));
+    private String token;
+
+    @Setup
+    public void setUp() {
+        token = jwtTokenProvider.createToken(1L, "user@test.com", Role.USER);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtTokenProvider.createToken(1L, "user@test.com", Role.USER);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtTokenProvider.parseClaims(token);
+    }
+}
@@ -0,0 +1,59 @@
+package taskmanagementsystem.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import taskmanagementsystem.dto.comment.CommentDto;
+import taskmanagementsystem.dto.task.TaskDto;
+import taskmanagementsystem.entity.*;
+import taskmanagementsystem.mapper.CommentMapper;
+import taskmanagementsystem.mapper.CommentMapperImpl;
+import taskmanagementsystem.mapper.TaskMapper;
+import taskmanagementsystem.mapper.TaskMapperImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Param({"10", "1000"})
+    private int commentsPerTask;
+
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+    private final CommentMapper commentMapper = new CommentMapperImpl();
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        User author = User.builder().id(1L).email("admin@test.com").role(Role.ADMIN).build();
+        User assignee = User.builder().id(2L).email("user@test.com").role(Role.USER).build();
+        task = Task.builder()
+                .id(1L)
+                .title("Task")
+                .description("Description")
+                .status(Status.IN_PROGRESS)
+                .priority(Priority.HIGH)
+                .author(author)
+                .assignee(assignee)
+                .build();
+        List<Comment> comments = new ArrayList<>(commentsPerTask);
+        for (long i = 0; i < commentsPerTask; i++) {
+            comments.add(new Comment(i, "Comment " + i, task, assignee));
+        }
+        task.setComments(comments);
+    }
+
+    @Benchmark
+    public TaskDto toTaskDto() {
+        return taskMapper.toTaskDto(task);
+    }
+
+    @Benchmark
+    public List<CommentDto> toCommentDtos() {
+        return task.getComments().stream()
+                .map(commentMapper::toCommentDto)
+                .toList();
+    }
+}
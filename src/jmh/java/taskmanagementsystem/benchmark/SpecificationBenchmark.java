@@ -0,0 +1,53 @@
+package taskmanagementsystem.benchmark;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import taskmanagementsystem.dto.task.TaskFilterDto;
+import taskmanagementsystem.entity.*;
+import taskmanagementsystem.service.task.TaskSpecifications;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the task visibility specification and turns it into a criteria predicate,
+ * using an in-memory H2 session factory for the criteria builder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpecificationBenchmark {
+
+    private final User admin = User.builder().id(1L).role(Role.ADMIN).build();
+    private final TaskFilterDto filter = new TaskFilterDto(Status.TODO, Priority.HIGH);
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Task.class)
+                .addAnnotatedClass(Comment.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:benchmark")
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate buildSpecification() {
+        CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        return TaskSpecifications.visibleTo(admin, filter).toPredicate(root, query, criteriaBuilder);
+    }
+}
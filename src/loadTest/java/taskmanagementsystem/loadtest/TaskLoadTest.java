@@ -0,0 +1,190 @@
+package taskmanagementsystem.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load test for the task read endpoints.
+ * <p>
+ * Every client sends requests back to back for the configured duration. Run it once against the
+ * default build and once against {@code -PjavaVersion=21} with the {@code virtual-threads} profile
+ * to compare throughput. Settings are read from system properties:
+ * </p>
+ * <ul>
+ *     <li>{@code loadtest.baseUrl} - application URL, {@code http://localhost:8080} by default</li>
+ *     <li>{@code loadtest.email}, {@code loadtest.password} - credentials of an existing user</li>
+ *     <li>{@code loadtest.userId} - ID of that user, used for {@code getAllTasks}</li>
+ *     <li>{@code loadtest.taskId} - ID of a task visible to that user, used for {@code getTask}</li>
+ *     <li>{@code loadtest.clients} - number of concurrent clients, 1000 by default</li>
+ *     <li>{@code loadtest.warmup}, {@code loadtest.duration} - ISO-8601 durations, PT10S and PT30S by default</li>
+ * </ul>
+ */
+public class TaskLoadTest {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int clients;
+    private final String token;
+
+    private TaskLoadTest(HttpClient client, String baseUrl, int clients, String token) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.clients = clients;
+        this.token = token;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        int clients = Integer.getInteger("loadtest.clients", 1000);
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+        long userId = Long.parseLong(required("loadtest.userId"));
+        long taskId = Long.parseLong(required("loadtest.taskId"));
+
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(clients);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        try {
+            String token = login(client, baseUrl, required("loadtest.email"), required("loadtest.password"));
+            TaskLoadTest test = new TaskLoadTest(client, baseUrl, clients, token);
+
+            String getAllTasks = "/api/v1/tasks/%d/all?page=0&size=10".formatted(userId);
+            String getTask = "/api/v1/tasks/%d".formatted(taskId);
+
+            test.run(clientExecutor, getAllTasks, warmup);
+            test.run(clientExecutor, getAllTasks, duration).print("getAllTasks", duration);
+            test.run(clientExecutor, getTask, warmup);
+            test.run(clientExecutor, getTask, duration).print("getTask", duration);
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private Result run(ExecutorService clientExecutor, String path, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Result>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            futures.add(clientExecutor.submit(() -> runClient(request, deadline)));
+        }
+        Result total = new Result();
+        for (Future<Result> future : futures) {
+            total.merge(future.get());
+        }
+        return total;
+    }
+
+    private Result runClient(HttpRequest request, long deadline) {
+        Result result = new Result();
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                result.record(response.statusCode(), System.nanoTime() - start);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                result.record(-1, System.nanoTime() - start);
+            }
+        }
+        return result;
+    }
+
+    private static String login(HttpClient client, String baseUrl, String email, String password) throws Exception {
+        String body = "{\"email\":\"%s\",\"password\":\"%s\"}".formatted(email, password);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode());
+        }
+        return matcher.group(1);
+    }
+
+    private static String required(String property) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("System property " + property + " is required");
+        }
+        return value;
+    }
+
+    private static class Result {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long succeeded;
+        private long rejected;
+        private long failed;
+
+        void record(int status, long latencyNanos) {
+            if (status >= 200 && status < 300) {
+                succeeded++;
+            } else if (status == 503) {
+                rejected++;
+            } else {
+                failed++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+
+        void merge(Result other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            succeeded += other.succeeded;
+            rejected += other.rejected;
+            failed += other.failed;
+        }
+
+        void print(String scenario, Duration duration) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("%-12s %10.1f req/s  ok=%d  503=%d  errors=%d  p50=%.1fms  p99=%.1fms  max=%.1fms%n",
+                    scenario,
+                    succeeded * 1000.0 / duration.toMillis(),
+                    succeeded,
+                    rejected,
+                    failed,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    percentile(sorted, 1.0));
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package taskmanagementsystem.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+
+/**
+ * Read-through cache for task and comment reads.
+ * <p>
+ * The in-process Caffeine tier is always present. When {@code tms.cache.redis.enabled} is set, Redis is added
+ * as a shared second tier behind it. Keep the local time-to-live short in multi-instance deployments:
+ * evictions only reach the local tier of the instance that performed the write.
+ * Puts and evictions are deferred until the surrounding transaction commits.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Value("${tms.cache.local.maximum-size:10000}")
+    private long localMaximumSize;
+
+    @Value("${tms.cache.local.time-to-live:PT1M}")
+    private Duration localTimeToLive;
+
+    @Value("${tms.cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${tms.cache.redis.time-to-live:PT30M}")
+    private Duration redisTimeToLive;
+
+    @Bean
+    public CacheManager cacheManager(ObjectProvider<RedisConnectionFactory> redisConnectionFactory,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        CaffeineCacheManager localCacheManager = new CaffeineCacheManager(CacheNames.TASKS, CacheNames.TASK_COMMENTS);
+        localCacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTimeToLive)
+                .recordStats());
+        meterRegistry.ifAvailable(registry -> bindLocalCacheMetrics(localCacheManager, registry));
+
+        RedisConnectionFactory connectionFactory = redisConnectionFactory.getIfAvailable();
+        if (!redisEnabled || connectionFactory == null) {
+            log.info("Using in-process cache only");
+            return new TransactionAwareCacheManagerProxy(localCacheManager);
+        }
+        RedisCacheManager remoteCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(redisTimeToLive)
+                        .prefixCacheNameWith("tms:"))
+                .build();
+        remoteCacheManager.afterPropertiesSet();
+        log.info("Using in-process cache backed by Redis");
+        return new TransactionAwareCacheManagerProxy(new TwoLevelCacheManager(localCacheManager, remoteCacheManager));
+    }
+
+    private void bindLocalCacheMetrics(CaffeineCacheManager localCacheManager, MeterRegistry registry) {
+        for (String name : localCacheManager.getCacheNames()) {
+            CaffeineCache cache = (CaffeineCache) localCacheManager.getCache(name);
+            if (cache != null) {
+                CaffeineCacheMetrics.monitor(registry, cache.getNativeCache(), name, "tier", "local");
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package taskmanagementsystem.config.cache;
+
+public final class CacheNames {
+
+    public static final String TASKS = "tasks";
+    public static final String TASK_COMMENTS = "taskComments";
+
+    private CacheNames() {
+    }
+}
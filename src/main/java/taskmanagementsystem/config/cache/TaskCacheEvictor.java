@@ -0,0 +1,31 @@
+package taskmanagementsystem.config.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts cached task reads for writes whose cache keys are not available as method arguments.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public void evictTask(Long taskId) {
+        evict(CacheNames.TASKS, taskId);
+    }
+
+    public void evictComments(Long taskId) {
+        evict(CacheNames.TASK_COMMENTS, taskId);
+    }
+
+    private void evict(String cacheName, Long key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
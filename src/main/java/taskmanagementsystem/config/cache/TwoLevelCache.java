@@ -0,0 +1,110 @@
+package taskmanagementsystem.config.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache that reads from the local tier first and falls back to the remote one, copying remote hits locally.
+ * Writes and evictions go to both tiers. Failures of the remote tier are logged and treated as misses,
+ * so an unavailable Redis degrades the cache to in-process only instead of failing requests.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TwoLevelCache implements Cache {
+
+    private final Cache local;
+    private final Cache remote;
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value == null) {
+            value = getRemote(key);
+            if (value != null) {
+                local.put(key, value.get());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [%s]: %s"
+                    .formatted(type.getName(), value));
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("Failed to put key {} into remote cache {}: {}", key, getName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        try {
+            remote.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict key {} from remote cache {}: {}", key, getName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        try {
+            remote.clear();
+        } catch (RuntimeException e) {
+            log.warn("Failed to clear remote cache {}: {}", getName(), e.getMessage());
+        }
+    }
+
+    private ValueWrapper getRemote(Object key) {
+        try {
+            return remote.get(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read key {} from remote cache {}: {}", key, getName(), e.getMessage());
+            return null;
+        }
+    }
+}
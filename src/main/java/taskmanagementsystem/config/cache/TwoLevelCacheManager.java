@@ -0,0 +1,36 @@
+package taskmanagementsystem.config.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RequiredArgsConstructor
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager localCacheManager;
+    private final CacheManager remoteCacheManager;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    private Cache createCache(String name) {
+        Cache local = localCacheManager.getCache(name);
+        Cache remote = remoteCacheManager.getCache(name);
+        if (local == null || remote == null) {
+            throw new IllegalStateException("Cache %s is not configured".formatted(name));
+        }
+        return new TwoLevelCache(local, remote);
+    }
+}
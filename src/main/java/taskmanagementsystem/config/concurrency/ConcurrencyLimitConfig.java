@@ -0,0 +1,61 @@
+package taskmanagementsystem.config.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Registers {@link ConcurrencyLimitFilter} when requests run on virtual threads.
+ * <p>
+ * Unless {@code tms.concurrency.limit.max-in-flight} is set, the limit equals the maximum size of the
+ * Hikari pool, or of the primary pool when reads are routed to a replica. The filter runs ahead of the
+ * security chain, because resolving a token may already need a connection.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "tms.concurrency.limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Value("${tms.concurrency.limit.max-in-flight:0}")
+    private int maxInFlight;
+
+    @Value("${tms.concurrency.limit.acquire-timeout:PT2S}")
+    private Duration acquireTimeout;
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(DataSource dataSource,
+                                                                                 MeterRegistry meterRegistry) {
+        int limit = maxInFlight > 0 ? maxInFlight : poolSize(dataSource);
+        log.info("Limiting concurrent API requests to {}", limit);
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limit, acquireTimeout, meterRegistry));
+        registration.addUrlPatterns("/api/*", "/auth/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    private int poolSize(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        } catch (SQLException e) {
+            log.warn("Data source is not a Hikari pool, limiting concurrent requests to {}", DEFAULT_POOL_SIZE);
+            return DEFAULT_POOL_SIZE;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package taskmanagementsystem.config.datasource;
+
+public enum DataSourceRole {
+    PRIMARY, REPLICA
+}
@@ -2,6 +2,7 @@ package taskmanagementsystem.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import taskmanagementsystem.dto.auth.AuthenticationRequest;
 import taskmanagementsystem.dto.auth.AuthenticationResponse;
+import taskmanagementsystem.dto.auth.RefreshTokenRequest;
 import taskmanagementsystem.dto.auth.RegistrationRequest;
 import taskmanagementsystem.service.auth.AuthService;
 
@@ -27,9 +29,26 @@ public class AuthController {
         return authService.register(request);
     }
 
+    /**
+     * The client address keys the per-IP login limit. Behind a proxy it comes from {@code X-Forwarded-For},
+     * see {@code server.forward-headers-strategy}.
+     */
     @PostMapping("/login")
     @Operation(summary = "Authenticate a user", description = "Authenticates a user and returns a JWT token")
-    public ResponseEntity<AuthenticationResponse> login(@RequestBody AuthenticationRequest request) {
-        return authService.login(request);
+    public ResponseEntity<AuthenticationResponse> login(@RequestBody AuthenticationRequest request,
+                                                        HttpServletRequest httpRequest) {
+        return authService.login(request, httpRequest.getRemoteAddr());
+    }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh tokens", description = "Exchanges a refresh token for a new access token and refresh token")
+    public ResponseEntity<AuthenticationResponse> refresh(@RequestBody RefreshTokenRequest request) {
+        return authService.refresh(request);
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Log out", description = "Revokes the refresh token so that it can no longer be exchanged")
+    public ResponseEntity<Void> logout(@RequestBody RefreshTokenRequest request) {
+        return authService.logout(request);
     }
 }
\ No newline at end of file
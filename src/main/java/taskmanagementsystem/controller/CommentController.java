@@ -2,10 +2,12 @@ package taskmanagementsystem.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import taskmanagementsystem.dto.CursorPaginatedResponse;
 import taskmanagementsystem.dto.comment.CommentCreateDto;
 import taskmanagementsystem.dto.comment.CommentDto;
 import taskmanagementsystem.service.comment.CommentService;
@@ -41,4 +43,13 @@ public class CommentController {
     List<CommentDto> getCommentsByTaskId(@PathVariable @Positive Long taskId) {
         return commentService.getCommentsByTaskId(taskId);
     }
+
+    @GetMapping("/{taskId}/scroll")
+    @Operation(summary = "Scroll through the comments of a task",
+            description = "Retrieves comments of a specific task oldest first, page by page using an opaque cursor.")
+    public CursorPaginatedResponse<CommentDto> scrollComments(@PathVariable @Positive Long taskId,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") @Positive @Max(100) int size) {
+        return commentService.scrollComments(taskId, cursor, size);
+    }
 }
\ No newline at end of file
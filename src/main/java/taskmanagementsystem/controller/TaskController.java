@@ -8,19 +8,47 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import taskmanagementsystem.dto.CursorPaginatedResponse;
 import taskmanagementsystem.dto.PaginatedResponse;
+import taskmanagementsystem.dto.task.TaskBatchDeleteDto;
+import taskmanagementsystem.dto.task.TaskBatchResponse;
+import taskmanagementsystem.dto.task.TaskBatchStatusUpdateDto;
+import taskmanagementsystem.dto.task.TaskChangesDto;
 import taskmanagementsystem.dto.task.TaskCreateDto;
 import taskmanagementsystem.dto.task.TaskDto;
+import taskmanagementsystem.dto.task.TaskExportFormat;
 import taskmanagementsystem.dto.task.TaskFilterDto;
+import taskmanagementsystem.dto.task.TaskStatsDto;
 import taskmanagementsystem.dto.task.TaskUpdateDto;
 import taskmanagementsystem.entity.Priority;
 import taskmanagementsystem.entity.Status;
+import taskmanagementsystem.exception.PreconditionFailedException;
+import taskmanagementsystem.exception.UserRoleException;
+import taskmanagementsystem.service.task.TaskEventService;
+import taskmanagementsystem.service.task.TaskExportService;
+import taskmanagementsystem.service.task.TaskPurgeService;
+import taskmanagementsystem.service.task.TaskSearchService;
 import taskmanagementsystem.service.task.TaskService;
+import taskmanagementsystem.service.task.TaskStatsService;
+import taskmanagementsystem.service.task.TaskSyncService;
+
+import java.util.List;
 
 /**
  * Controller for managing tasks in the system.
@@ -38,7 +66,15 @@ import taskmanagementsystem.service.task.TaskService;
 @RequestMapping("api/v1/tasks")
 public class TaskController {
 
+    private static final int MAX_LATEST_COMMENTS = 100;
+
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskSearchService taskSearchService;
+    private final TaskEventService taskEventService;
+    private final TaskSyncService taskSyncService;
+    private final TaskStatsService taskStatsService;
+    private final TaskPurgeService taskPurgeService;
 
     /**
      * Creates a new task for the authenticated user.
@@ -59,17 +95,89 @@ public class TaskController {
         return taskService.createTask(taskDto);
     }
 
+    /**
+     * Creates many tasks in one request.
+     * <p>
+     * Only an admin can create tasks, and every item must name the authenticated admin as its author.
+     * Every item is validated on its own; invalid items are reported in the response and do not
+     * prevent the valid ones from being created.
+     * </p>
+     *
+     * @param taskDtos the tasks to create
+     * @return the outcome of every item, in request order
+     * @throws IllegalArgumentException if the batch is larger than the supported limit
+     * @throws UserRoleException if the authenticated user is not an admin
+     */
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create tasks in bulk", description = "Creates many tasks and reports the outcome of every item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed", content = @Content(schema = @Schema(implementation = TaskBatchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "403", description = "User does not have permission")
+    })
+    public TaskBatchResponse createTasks(@RequestBody List<TaskCreateDto> taskDtos) {
+        return taskService.createTasks(taskDtos);
+    }
+
+    /**
+     * Sets the same status on many tasks in one request.
+     * <p>
+     * Admins may update any task, users only the tasks assigned to them.
+     * </p>
+     *
+     * @param batchDto the user performing the update, the task IDs and the new status
+     * @return the outcome of every item, in request order
+     * @throws EntityNotFoundException if the user with the given ID does not exist
+     */
+
+    @PatchMapping("/batch/status")
+    @Operation(summary = "Update task status in bulk", description = "Sets the same status on many tasks and reports the outcome of every item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed", content = @Content(schema = @Schema(implementation = TaskBatchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    public TaskBatchResponse updateTasksStatus(@RequestBody @Valid TaskBatchStatusUpdateDto batchDto) {
+        return taskService.updateTasksStatus(batchDto);
+    }
+
+    /**
+     * Deletes many tasks in one request. Only an admin can delete tasks.
+     *
+     * @param batchDto the admin performing the deletion and the task IDs
+     * @return the outcome of every item, in request order
+     * @throws EntityNotFoundException if the user with the given ID does not exist
+     * @throws AccessDeniedException if the user is not an admin
+     */
+
+    @PostMapping("/batch/delete")
+    @Operation(summary = "Delete tasks in bulk", description = "Deletes many tasks and reports the outcome of every item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed", content = @Content(schema = @Schema(implementation = TaskBatchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "403", description = "User does not have permission"),
+            @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    public TaskBatchResponse deleteTasks(@RequestBody @Valid TaskBatchDeleteDto batchDto) {
+        return taskService.deleteTasks(batchDto);
+    }
+
     /**
      * Updates an existing task by its ID.
      * <p>
      * The user must be authorized to update the task. Only the owner or an admin can update the task.
+     * When {@code If-Match} is sent, the task is only updated if its current ETag matches.
+     * The ETag of the updated task is returned in the response.
      * </p>
      *
      * @param taskId  the ID of the task to update
+     * @param ifMatch (optional) the ETag of the task the client last read
      * @param taskDto the data transfer object containing updated task details
      * @return the updated task as a {@link TaskDto}
      * @throws EntityNotFoundException if the task with the given ID does not exist
      * @throws AccessDeniedException if the user is not authorized to update the task
+     * @throws PreconditionFailedException if the task has changed since the client read it
      */
 
     @PutMapping("/{taskId}")
@@ -79,11 +187,56 @@ public class TaskController {
             @ApiResponse(responseCode = "200", description = "Task updated successfully", content = @Content(schema = @Schema(implementation = TaskDto.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
             @ApiResponse(responseCode = "403", description = "User does not have permission"),
-            @ApiResponse(responseCode = "404", description = "Task not found")
+            @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "409", description = "Task was modified concurrently"),
+            @ApiResponse(responseCode = "412", description = "Task does not match If-Match")
+    })
+    public ResponseEntity<TaskDto> updateTask(@PathVariable Long taskId,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              @RequestBody TaskUpdateDto taskDto) {
+        TaskDto task = taskService.updateTask(taskId, taskDto, TaskETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(task))
+                .body(task);
+    }
+
+    /**
+     * Partially updates a task by its ID.
+     * <p>
+     * Only the fields present in the request are written, with a single UPDATE statement that also checks
+     * the user's permission and the expected version; the task is only read if the update is rejected. When {@code If-Match} is
+     * sent, the new ETag is returned; an unconditional status change does not know it and omits it.
+     * </p>
+     *
+     * @param taskId  the ID of the task to update
+     * @param ifMatch (optional) the ETag of the task the client last read
+     * @param taskDto the fields to change; {@code null} fields are left as they are
+     * @return an empty response, with the new ETag when it is known
+     * @throws EntityNotFoundException if the task with the given ID does not exist
+     * @throws AccessDeniedException if the user is not authorized to update the task
+     * @throws PreconditionFailedException if the task has changed since the client read it
+     */
+
+    @PatchMapping("/{taskId}")
+    @Operation(summary = "Partially update a task",
+            description = "Changes only the given fields of a task. The user must be authorized to update the task.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Task updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "403", description = "User does not have permission"),
+            @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "409", description = "Task was modified concurrently"),
+            @ApiResponse(responseCode = "412", description = "Task does not match If-Match")
     })
-    public TaskDto updateTask(@PathVariable Long taskId,
-                              @RequestBody TaskUpdateDto taskDto) {
-        return taskService.updateTask(taskId, taskDto);
+    public ResponseEntity<Void> patchTask(@PathVariable @Positive Long taskId,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                          @RequestBody TaskUpdateDto taskDto) {
+        Long version = taskService.patchTask(taskId, taskDto, TaskETags.expectedVersion(ifMatch));
+        ResponseEntity.HeadersBuilder<?> response = ResponseEntity.noContent();
+        if (version != null) {
+            response.eTag(TaskETags.of(version));
+        }
+        return response.build();
     }
 
     /**
@@ -115,10 +268,16 @@ public class TaskController {
      * Retrieves a task by its ID.
      * <p>
      * The user must be authorized to access the task. Only the owner or an admin can retrieve the task.
+     * The response carries the task's ETag; if it matches {@code If-None-Match}, 304 Not Modified is
+     * returned without a body. With {@code latestComments} only that many of the newest comments are
+     * returned together with the total comment count, instead of the whole thread; such a preview has its
+     * own ETag, so it never answers a conditional request for the full task or vice versa.
      * </p>
      *
-     * @param taskId the ID of the task to retrieve
-     * @return the task as a {@link TaskDto}
+     * @param taskId         the ID of the task to retrieve
+     * @param latestComments (optional) the number of latest comments to include
+     * @param request        the current request, used to evaluate {@code If-None-Match}
+     * @return the task as a {@link TaskDto}, or {@code null} if the client's copy is up to date
      * @throws EntityNotFoundException if the task with the given ID does not exist
      * @throws AccessDeniedException     if the user is not authorized to access the task
      */
@@ -128,24 +287,38 @@ public class TaskController {
             description = "Retrieves a task by its ID. The user must be authorized to access the task.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task retrieved successfully", content = @Content(schema = @Schema(implementation = TaskDto.class))),
+            @ApiResponse(responseCode = "304", description = "Task has not changed since the given ETag"),
             @ApiResponse(responseCode = "403", description = "User does not have permission"),
             @ApiResponse(responseCode = "404", description = "Task not found")
     })
-    public TaskDto getTask(@PathVariable @Positive Long taskId) {
-        return taskService.getTask(taskId);
+    public TaskDto getTask(@PathVariable @Positive Long taskId,
+                           @RequestParam(required = false) @PositiveOrZero @Max(MAX_LATEST_COMMENTS) Integer latestComments,
+                           WebRequest request) {
+        TaskDto task = latestComments == null
+                ? taskService.getTask(taskId)
+                : taskService.getTaskPreview(taskId, latestComments);
+        String eTag = latestComments == null
+                ? TaskETags.of(task)
+                : TaskETags.ofPreview(task, latestComments);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return task;
     }
 
     /**
      * Retrieves all tasks assigned to or created by the specified user.
      * <p>
      * Supports filtering by status and priority, as well as pagination.
+     * With {@code latestComments} each task carries only that many of its newest comments and its comment count.
      * </p>
      *
-     * @param userId    the ID of the user whose tasks are being retrieved
-     * @param status    (optional) the status to filter tasks by
-     * @param priority  (optional) the priority to filter tasks by
-     * @param page      the page number for pagination (0-based index)
-     * @param size      the number of tasks per page
+     * @param userId         the ID of the user whose tasks are being retrieved
+     * @param status         (optional) the status to filter tasks by
+     * @param priority       (optional) the priority to filter tasks by
+     * @param page           the page number for pagination (0-based index)
+     * @param size           the number of tasks per page
+     * @param latestComments (optional) the number of latest comments to include per task
      * @return a paginated response containing a list of tasks as {@link TaskDto}
      * @throws EntityNotFoundException if the user with the given ID does not exist
      */
@@ -162,8 +335,218 @@ public class TaskController {
                                                   @RequestParam(required = false) Status status,
                                                   @RequestParam(required = false) Priority priority,
                                                   @RequestParam(defaultValue = "0") int page,
-                                                  @RequestParam(defaultValue = "10") int size) {
+                                                  @RequestParam(defaultValue = "10") int size,
+                                                  @RequestParam(required = false) @PositiveOrZero @Max(MAX_LATEST_COMMENTS) Integer latestComments) {
+        TaskFilterDto filter = new TaskFilterDto(status, priority);
+        return taskService.getAllTasks(userId, filter, page, size, latestComments);
+    }
+
+    /**
+     * Scrolls through all tasks assigned to or created by the specified user using keyset pagination.
+     * <p>
+     * Unlike {@link #getAllTasks}, pages are addressed by an opaque cursor instead of a page number,
+     * so deep pages cost the same as the first one and no total count is computed.
+     * </p>
+     *
+     * @param userId    the ID of the user whose tasks are being retrieved
+     * @param status    (optional) the status to filter tasks by
+     * @param priority  (optional) the priority to filter tasks by
+     * @param cursor    (optional) the cursor returned with the previous page; omit it to start from the beginning
+     * @param size      the number of tasks per page
+     * @param latestComments (optional) the number of latest comments to include per task
+     * @return a page of tasks as {@link TaskDto} with the cursor of the next page
+     * @throws EntityNotFoundException if the user with the given ID does not exist
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+
+    @GetMapping("/{userId}/all/scroll")
+    @Operation(summary = "Scroll through all tasks for a user",
+            description = "Retrieves tasks assigned to or created by the specified user page by page using an opaque cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully", content = @Content(schema = @Schema(implementation = CursorPaginatedResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    public CursorPaginatedResponse<TaskDto> scrollTasks(@PathVariable @Positive Long userId,
+                                                        @RequestParam(required = false) Status status,
+                                                        @RequestParam(required = false) Priority priority,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "10") @Positive int size,
+                                                        @RequestParam(required = false) @PositiveOrZero @Max(MAX_LATEST_COMMENTS) Integer latestComments) {
         TaskFilterDto filter = new TaskFilterDto(status, priority);
-        return taskService.getAllTasks(userId, filter, page, size);
+        return taskService.scrollTasks(userId, filter, cursor, size, latestComments);
+    }
+
+    /**
+     * Exports all tasks assigned to or created by the specified user in a single streamed response.
+     * <p>
+     * Applies the same filters as {@link #getAllTasks}. Rows are written as they are read from the database,
+     * one JSON object per line for {@code NDJSON} or one record per line for {@code CSV}.
+     * </p>
+     *
+     * @param userId    the ID of the user whose tasks are being exported
+     * @param status    (optional) the status to filter tasks by
+     * @param priority  (optional) the priority to filter tasks by
+     * @param format    the output format, {@code NDJSON} by default
+     * @return the streamed export
+     * @throws UserRoleException if the request is not authenticated as the user with the given ID
+     */
+
+    @GetMapping("/{userId}/export")
+    @Operation(summary = "Export all tasks for a user",
+            description = "Streams all tasks assigned to or created by the specified user as NDJSON or CSV.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks exported successfully"),
+            @ApiResponse(responseCode = "403", description = "User does not have permission")
+    })
+    public ResponseEntity<StreamingResponseBody> exportTasks(@PathVariable @Positive Long userId,
+                                                             @RequestParam(required = false) Status status,
+                                                             @RequestParam(required = false) Priority priority,
+                                                             @RequestParam(defaultValue = "NDJSON") TaskExportFormat format) {
+        TaskFilterDto filter = new TaskFilterDto(status, priority);
+        StreamingResponseBody body = taskExportService.exportTasks(userId, filter, format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * Searches the tasks visible to the specified user by keywords.
+     * <p>
+     * Titles, descriptions and comments are searched. Results are ordered by relevance,
+     * best match first, and follow the same visibility rules as {@link #getAllTasks}.
+     * </p>
+     *
+     * @param userId the ID of the user whose tasks are being searched
+     * @param query  the keywords to search for
+     * @param page   the page number for pagination (0-based index)
+     * @param size   the number of tasks per page
+     * @return a paginated response containing the matching tasks as {@link TaskDto}
+     * @throws UserRoleException if the request is not authenticated as the user with the given ID
+     * @throws IllegalArgumentException if the query is blank
+     */
+
+    @GetMapping("/{userId}/search")
+    @Operation(summary = "Search tasks",
+            description = "Full-text search over titles, descriptions and comments of the tasks visible to the user.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully", content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskDto.class)))),
+            @ApiResponse(responseCode = "400", description = "Blank query"),
+            @ApiResponse(responseCode = "403", description = "User does not have permission")
+    })
+    public PaginatedResponse<TaskDto> searchTasks(@PathVariable @Positive Long userId,
+                                                  @RequestParam("q") String query,
+                                                  @RequestParam(defaultValue = "0") @PositiveOrZero int page,
+                                                  @RequestParam(defaultValue = "10") @Positive int size) {
+        return taskSearchService.searchTasks(userId, query, page, size);
+    }
+
+    /**
+     * Streams changes of the tasks visible to the specified user as Server-Sent Events.
+     * <p>
+     * Each event is named after the change ({@code TaskCreated}, {@code TaskUpdated}, {@code TaskDeleted},
+     * {@code CommentAdded}, {@code CommentDeleted}) and carries the task ID; clients fetch the task itself when they need it.
+     * Event IDs follow the order in which changes were published, on every instance. After a reconnect,
+     * changes newer than {@code Last-Event-ID} are sent first. A {@code reset} event means they could not
+     * all be sent and the client should reload its tasks; its ID is the one to resume from.
+     * </p>
+     *
+     * @param userId      the ID of the user whose task changes are streamed
+     * @param lastEventId (optional) the ID of the last event the client received
+     * @return the event stream
+     * @throws UserRoleException if the request is not authenticated as the user with the given ID
+     */
+
+    @GetMapping(value = "/{userId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream task changes",
+            description = "Pushes changes of the tasks visible to the user as Server-Sent Events.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "403", description = "User does not have permission")
+    })
+    public SseEmitter streamTaskEvents(@PathVariable @Positive Long userId,
+                                       @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return taskEventService.subscribe(userId, lastEventId);
+    }
+
+    /**
+     * Returns the changes to the tasks visible to the specified user after the given watermark.
+     * <p>
+     * Start with {@code since=0} and send the returned watermark with the next request. Changed tasks
+     * are returned without comments; changed comments are listed separately, including all earlier
+     * comments of a task that was newly assigned to the user. Deleted tasks and comments, and tasks that
+     * are no longer visible to the user, are returned as removed IDs.
+     * </p>
+     *
+     * @param userId the ID of the user whose tasks are synchronized
+     * @param since  the watermark returned by the previous request, {@code 0} for a full sync
+     * @param size   the maximum number of tasks, comments and removals returned each, exceeded only when
+     *               a single write changed more rows
+     * @return the changes and the new watermark
+     * @throws UserRoleException if the request is not authenticated as the user with the given ID
+     */
+
+    @GetMapping("/{userId}/changes")
+    @Operation(summary = "Get task changes since a watermark",
+            description = "Returns tasks and comments changed, and those removed, after the given watermark.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes retrieved successfully", content = @Content(schema = @Schema(implementation = TaskChangesDto.class))),
+            @ApiResponse(responseCode = "403", description = "User does not have permission")
+    })
+    public TaskChangesDto getTaskChanges(@PathVariable @Positive Long userId,
+                                         @RequestParam(defaultValue = "0") @PositiveOrZero long since,
+                                         @RequestParam(defaultValue = "500") @Positive @Max(5000) int size) {
+        return taskSyncService.getChanges(userId, since, size);
+    }
+
+    /**
+     * Returns the number of tasks the specified user authored and is assigned to, per status and priority,
+     * together with the number of comments on them.
+     * <p>
+     * The counts are maintained on every write, so this does not scan the user's tasks.
+     * </p>
+     *
+     * @param userId the ID of the user
+     * @return the task statistics of the user
+     * @throws UserRoleException if the request is not authenticated as the user with the given ID
+     */
+
+    @GetMapping("/{userId}/stats")
+    @Operation(summary = "Get task statistics for a user",
+            description = "Returns task counts per status and priority and comment counts for the tasks the user authored and is assigned to.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully", content = @Content(schema = @Schema(implementation = TaskStatsDto.class))),
+            @ApiResponse(responseCode = "403", description = "User does not have permission")
+    })
+    public TaskStatsDto getTaskStats(@PathVariable @Positive Long userId) {
+        return taskStatsService.getStats(userId);
+    }
+
+    /**
+     * Deletes every task the specified user authored, together with their comments.
+     * <p>
+     * The tasks are deleted in the background in small chunks, each in its own transaction, so a long
+     * history does not lock all of the user's tasks at once. Clients see the tasks disappear gradually
+     * and receive a deletion event for each of them.
+     * </p>
+     *
+     * @param userId the ID of the admin whose tasks are deleted; must be the authenticated user
+     * @throws AccessDeniedException if the user is not the authenticated user or not an admin
+     */
+
+    @DeleteMapping("/{userId}/history")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Delete all tasks of a user",
+            description = "Starts deleting every task the user authored, in chunks in the background.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Deletion started"),
+            @ApiResponse(responseCode = "403", description = "User does not have permission")
+    })
+    public void purgeTasks(@PathVariable @Positive Long userId) {
+        taskPurgeService.purgeTasks(userId);
     }
 }
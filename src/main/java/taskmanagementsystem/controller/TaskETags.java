@@ -0,0 +1,67 @@
+package taskmanagementsystem.controller;
+
+import taskmanagementsystem.dto.comment.CommentDto;
+import taskmanagementsystem.dto.task.TaskDto;
+import taskmanagementsystem.exception.PreconditionFailedException;
+
+import java.util.List;
+
+/**
+ * Translates between task versions and the strong ETags sent to clients, e.g. {@code "3"}.
+ * Comments do not change the task's version, so a representation that includes them adds their count and
+ * the ID of the newest one, e.g. {@code "3-c2.17"}; comments are never edited, so every new or deleted
+ * comment changes that suffix. A preview with only the latest comments is a different representation and
+ * gets its own tag, e.g. {@code "3-p5-c2.17"}, which is not accepted by {@code If-Match}.
+ */
+final class TaskETags {
+
+    private static final String ANY = "*";
+    private static final String PREVIEW = "-p";
+
+    private TaskETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    static String of(TaskDto task) {
+        return "\"" + task.version() + comments(task) + "\"";
+    }
+
+    static String ofPreview(TaskDto task, int latestComments) {
+        return "\"" + task.version() + PREVIEW + latestComments + comments(task) + "\"";
+    }
+
+    /**
+     * @param ifMatch the value of the {@code If-Match} header, may be {@code null}
+     * @return the version the client expects, or {@code null} if any version is acceptable
+     * @throws PreconditionFailedException if the header does not hold a task ETag
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match must hold a single strong ETag");
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        if (value.contains(PREVIEW)) {
+            throw new PreconditionFailedException("If-Match does not match any version of the task");
+        }
+        int suffix = value.indexOf('-');
+        try {
+            return Long.valueOf(suffix < 0 ? value : value.substring(0, suffix));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match any version of the task");
+        }
+    }
+
+    private static String comments(TaskDto task) {
+        List<CommentDto> comments = task.comments() == null ? List.of() : task.comments();
+        long count = task.commentCount() != null ? task.commentCount() : comments.size();
+        long newestId = comments.stream().mapToLong(CommentDto::id).max().orElse(0L);
+        return "-c" + count + "." + newestId;
+    }
+}
@@ -0,0 +1,13 @@
+package taskmanagementsystem.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CursorPaginatedResponse<T>(List<T> content,
+                                         int pageSize,
+                                         String nextCursor,
+                                         boolean last
+) {
+}
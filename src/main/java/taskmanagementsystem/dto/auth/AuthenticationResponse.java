@@ -1,4 +1,5 @@
 package taskmanagementsystem.dto.auth;
 
-public record AuthenticationResponse(String token) {
+public record AuthenticationResponse(String token,
+                                     String refreshToken) {
 }
@@ -0,0 +1,4 @@
+package taskmanagementsystem.dto.auth;
+
+public record RefreshTokenRequest(String refreshToken) {
+}
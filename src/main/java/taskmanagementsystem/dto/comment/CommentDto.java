@@ -2,6 +2,8 @@ package taskmanagementsystem.dto.comment;
 
 import jakarta.validation.constraints.NotNull;
 
+import java.io.Serializable;
+
 public record CommentDto(
         @NotNull
         Long id,
@@ -10,5 +12,5 @@ public record CommentDto(
         @NotNull
         Long taskId,
         @NotNull
-        String text) {
+        String text) implements Serializable {
 }
@@ -0,0 +1,17 @@
+package taskmanagementsystem.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record TaskBatchDeleteDto(
+        @Schema(description = "ID of the admin deleting the tasks", example = "1")
+        @NotNull
+        Long userId,
+
+        @Schema(description = "IDs of the tasks to delete", example = "[1, 2, 3]")
+        @NotEmpty
+        List<Long> taskIds) {
+}
@@ -0,0 +1,25 @@
+package taskmanagementsystem.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record TaskBatchItemResult(
+        @Schema(description = "Position of the item in the request", example = "0")
+        int index,
+
+        @Schema(description = "ID of the task, if known", example = "1")
+        Long taskId,
+
+        @Schema(description = "Outcome of the item", example = "CREATED")
+        TaskBatchItemStatus status,
+
+        @Schema(description = "Reason of the failure", example = "User with id 1 not found")
+        String error) {
+
+    public static TaskBatchItemResult success(int index, Long taskId, TaskBatchItemStatus status) {
+        return new TaskBatchItemResult(index, taskId, status, null);
+    }
+
+    public static TaskBatchItemResult failure(int index, Long taskId, String error) {
+        return new TaskBatchItemResult(index, taskId, TaskBatchItemStatus.FAILED, error);
+    }
+}
@@ -0,0 +1,8 @@
+package taskmanagementsystem.dto.task;
+
+public enum TaskBatchItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    FAILED
+}
@@ -0,0 +1,15 @@
+package taskmanagementsystem.dto.task;
+
+import java.util.List;
+
+public record TaskBatchResponse(List<TaskBatchItemResult> results,
+                                int succeeded,
+                                int failed) {
+
+    public static TaskBatchResponse of(List<TaskBatchItemResult> results) {
+        int failed = (int) results.stream()
+                .filter(result -> result.status() == TaskBatchItemStatus.FAILED)
+                .count();
+        return new TaskBatchResponse(results, results.size() - failed, failed);
+    }
+}
@@ -0,0 +1,22 @@
+package taskmanagementsystem.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import taskmanagementsystem.entity.Status;
+
+import java.util.List;
+
+public record TaskBatchStatusUpdateDto(
+        @Schema(description = "ID of the user performing the update", example = "1")
+        @NotNull
+        Long userId,
+
+        @Schema(description = "IDs of the tasks to update", example = "[1, 2, 3]")
+        @NotEmpty
+        List<Long> taskIds,
+
+        @Schema(description = "New status of the tasks", example = "COMPLETED")
+        @NotNull
+        Status status) {
+}
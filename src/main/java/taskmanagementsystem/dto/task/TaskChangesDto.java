@@ -0,0 +1,26 @@
+package taskmanagementsystem.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import taskmanagementsystem.dto.comment.CommentDto;
+
+import java.util.List;
+
+public record TaskChangesDto(
+        @Schema(description = "Tasks created or changed since the watermark, without their comments")
+        List<TaskDto> tasks,
+
+        @Schema(description = "Comments created or changed since the watermark, and the earlier comments of tasks newly assigned to the user")
+        List<CommentDto> comments,
+
+        @Schema(description = "Tasks that were deleted or are no longer visible to the user")
+        List<Long> removedTaskIds,
+
+        @Schema(description = "Comments that were deleted")
+        List<Long> removedCommentIds,
+
+        @Schema(description = "Watermark to send with the next request", example = "73815")
+        long watermark,
+
+        @Schema(description = "Whether more changes are available right away")
+        boolean hasMore) {
+}
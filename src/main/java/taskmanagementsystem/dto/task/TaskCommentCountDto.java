@@ -0,0 +1,5 @@
+package taskmanagementsystem.dto.task;
+
+public record TaskCommentCountDto(Long taskId,
+                                  Long commentCount) {
+}
@@ -0,0 +1,24 @@
+package taskmanagementsystem.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import taskmanagementsystem.entity.Priority;
+import taskmanagementsystem.entity.Status;
+
+import java.util.Map;
+
+public record TaskCountsDto(
+        @Schema(description = "Number of tasks", example = "12")
+        long tasks,
+
+        @Schema(description = "Number of tasks per status")
+        Map<Status, Long> byStatus,
+
+        @Schema(description = "Number of tasks per priority")
+        Map<Priority, Long> byPriority,
+
+        @Schema(description = "Number of comments on these tasks", example = "40")
+        long comments,
+
+        @Schema(description = "Number of comments on tasks that are not completed", example = "25")
+        long openComments) {
+}
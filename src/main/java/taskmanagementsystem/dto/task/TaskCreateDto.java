@@ -2,16 +2,19 @@ package taskmanagementsystem.dto.task;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import taskmanagementsystem.entity.Priority;
 import taskmanagementsystem.entity.Status;
 
 public record TaskCreateDto(
         @Schema(description = "Title of the task", requiredMode = Schema.RequiredMode.REQUIRED, example = "Implement feature X")
         @NotNull
+        @Size(max = 64)
         String title,
 
         @Schema(description = "Description of the task", example = "This task involves implementing feature X.")
         @NotNull
+        @Size(max = 1024)
         String description,
 
         @Schema(description = "Status of the task", example = "TODO")
@@ -22,6 +25,7 @@ public record TaskCreateDto(
         @NotNull
         Priority priority,
 
+        @Schema(description = "ID of the author; must be the authenticated admin", example = "1")
         @NotNull
         Long authorId,
 
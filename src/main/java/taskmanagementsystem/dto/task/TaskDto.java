@@ -6,6 +6,7 @@ import taskmanagementsystem.dto.comment.CommentDto;
 import taskmanagementsystem.entity.Priority;
 import taskmanagementsystem.entity.Status;
 
+import java.io.Serializable;
 import java.util.List;
 
 public record TaskDto(
@@ -36,5 +37,12 @@ public record TaskDto(
         @Schema(description = "ID of the assignee", example = "2")
         Long assigneeId,
 
-        List<CommentDto> comments) {
+        @Schema(description = "Comments of the task; only the latest ones if a preview was requested")
+        List<CommentDto> comments,
+
+        @Schema(description = "Total number of comments on the task", example = "42")
+        Long commentCount,
+
+        @Schema(description = "Version of the task, sent in its ETag and expected in If-Match", example = "3")
+        Long version) implements Serializable {
 }
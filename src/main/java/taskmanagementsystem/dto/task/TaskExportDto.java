@@ -0,0 +1,13 @@
+package taskmanagementsystem.dto.task;
+
+import taskmanagementsystem.entity.Priority;
+import taskmanagementsystem.entity.Status;
+
+public record TaskExportDto(Long id,
+                            String title,
+                            String description,
+                            Status status,
+                            Priority priority,
+                            Long authorId,
+                            Long assigneeId) {
+}
@@ -0,0 +1,6 @@
+package taskmanagementsystem.dto.task;
+
+public record TaskOwnersDto(Long taskId,
+                            Long authorId,
+                            Long assigneeId) {
+}
@@ -0,0 +1,14 @@
+package taskmanagementsystem.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record TaskStatsDto(
+        @Schema(description = "ID of the user", example = "1")
+        Long userId,
+
+        @Schema(description = "Counts of the tasks created by the user")
+        TaskCountsDto authored,
+
+        @Schema(description = "Counts of the tasks assigned to the user")
+        TaskCountsDto assigned) {
+}
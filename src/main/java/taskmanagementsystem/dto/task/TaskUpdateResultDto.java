@@ -0,0 +1,5 @@
+package taskmanagementsystem.dto.task;
+
+public record TaskUpdateResultDto(Long version,
+                                  Long previousAssigneeId) {
+}
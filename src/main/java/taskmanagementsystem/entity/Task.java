@@ -5,7 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,10 +17,19 @@ import java.util.List;
 @AllArgsConstructor
 @Entity
 @Table(name = "tasks")
+@DynamicUpdate
+@NamedEntityGraph(name = Task.WITH_USERS_GRAPH,
+        attributeNodes = {@NamedAttributeNode("author"), @NamedAttributeNode("assignee")})
+@NamedEntityGraph(name = Task.WITH_COMMENTS_GRAPH,
+        attributeNodes = @NamedAttributeNode("comments"))
 public class Task {
 
+    public static final String WITH_USERS_GRAPH = "Task.withUsers";
+    public static final String WITH_COMMENTS_GRAPH = "Task.withComments";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(length = 64, nullable = false)
@@ -33,14 +44,34 @@ public class Task {
     @Enumerated(EnumType.STRING)
     private Priority priority;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignee_id")
     private User assignee;
 
-    @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
+    /**
+     * Read-only view of the task's comments. Comments are written through {@link Comment} and removed
+     * together with their task by the database, so deleting a task does not load them.
+     */
+    @OneToMany(mappedBy = "task")
     private List<Comment> comments;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
+    @Column(name = "change_xid", insertable = false, updatable = false)
+    private Long changeXid;
+
+    @Column(name = "assigned_xid", insertable = false, updatable = false)
+    private Long assignedXid;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private Instant updatedAt;
 }
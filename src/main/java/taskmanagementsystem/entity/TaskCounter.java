@@ -0,0 +1,32 @@
+package taskmanagementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Number of tasks, and of comments on them, that a user authored or is assigned to with a given
+ * status and priority, as of the last roll-up of the {@link TaskCounterDelta} rows appended by the
+ * task and comment triggers.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Immutable
+@Table(name = "task_counters")
+public class TaskCounter {
+
+    @EmbeddedId
+    private TaskCounterId id;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+}
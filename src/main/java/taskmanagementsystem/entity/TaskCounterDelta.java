@@ -0,0 +1,45 @@
+package taskmanagementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * A change to a {@link TaskCounter} appended by the task triggers and not yet rolled up into it.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Immutable
+@Table(name = "task_counter_deltas")
+public class TaskCounterDelta {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private TaskRelation relation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50, nullable = false)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50, nullable = false)
+    private Priority priority;
+
+    @Column(name = "task_delta", nullable = false)
+    private long taskDelta;
+
+    @Column(name = "comment_delta", nullable = false)
+    private long commentDelta;
+}
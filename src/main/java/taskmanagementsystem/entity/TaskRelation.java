@@ -0,0 +1,6 @@
+package taskmanagementsystem.entity;
+
+public enum TaskRelation {
+    AUTHOR,
+    ASSIGNEE
+}
@@ -0,0 +1,43 @@
+package taskmanagementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A task change as sent to event streams. Rows are written with a native statement that assigns
+ * {@link #seq}; see {@code TaskStreamEventRepository#append}.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_stream_events")
+public class TaskStreamEvent {
+
+    @Id
+    private Long seq;
+
+    @Column(length = 64, nullable = false)
+    private String name;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "author_id")
+    private Long authorId;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Column(name = "previous_assignee_id")
+    private Long previousAssigneeId;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,50 @@
+package taskmanagementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Written by database triggers when a task or comment is deleted, or when a task is taken away
+ * from its assignee. {@code authorId} and {@code assigneeId} are the users that have to drop the row.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Immutable
+@Table(name = "tombstones")
+public class Tombstone {
+
+    @Id
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    @Column(name = "change_xid", nullable = false)
+    private Long changeXid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", length = 16, nullable = false)
+    private TombstoneType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "author_id")
+    private Long authorId;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+}
@@ -0,0 +1,6 @@
+package taskmanagementsystem.entity;
+
+public enum TombstoneType {
+    TASK,
+    COMMENT
+}
@@ -0,0 +1,14 @@
+package taskmanagementsystem.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class AuditLogListener implements DomainEventListener {
+
+    @Override
+    public void onEvent(Long eventId, DomainEvent event) {
+        log.info("Audit event {}: {}", eventId, event);
+    }
+}
@@ -0,0 +1,4 @@
+package taskmanagementsystem.event;
+
+public record CommentAdded(Long taskId, Long commentId, Long userId) implements DomainEvent {
+}
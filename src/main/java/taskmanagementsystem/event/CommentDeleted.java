@@ -0,0 +1,4 @@
+package taskmanagementsystem.event;
+
+public record CommentDeleted(Long taskId, Long commentId) implements DomainEvent {
+}
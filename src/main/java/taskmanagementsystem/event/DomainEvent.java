@@ -0,0 +1,21 @@
+package taskmanagementsystem.event;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Something that happened to a task and that other parts of the system may react to.
+ * Events are stored in the outbox as JSON, with their simple type name in the {@code type} field.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.SIMPLE_NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(TaskCreated.class),
+        @JsonSubTypes.Type(TaskUpdated.class),
+        @JsonSubTypes.Type(TaskDeleted.class),
+        @JsonSubTypes.Type(CommentAdded.class),
+        @JsonSubTypes.Type(CommentDeleted.class)
+})
+public sealed interface DomainEvent permits TaskCreated, TaskUpdated, TaskDeleted, CommentAdded, CommentDeleted {
+
+    Long taskId();
+}
@@ -0,0 +1,18 @@
+package taskmanagementsystem.event;
+
+/**
+ * Receives domain events after the transaction that produced them has committed.
+ * <p>
+ * Every bean implementing this interface receives every event on the dispatcher thread of one instance,
+ * inside the transaction that removes that single event from the outbox. Delivery is at least once: an
+ * event is redelivered to all listeners if any of them throws, so listeners must tolerate duplicates and
+ * should return quickly.
+ * </p>
+ */
+public interface DomainEventListener {
+
+    /**
+     * @param eventId the outbox ID of the event; IDs are allocated in blocks and do not follow commit order
+     */
+    void onEvent(Long eventId, DomainEvent event);
+}
@@ -0,0 +1,4 @@
+package taskmanagementsystem.event;
+
+public record TaskDeleted(Long taskId, Long authorId, Long assigneeId) implements DomainEvent {
+}
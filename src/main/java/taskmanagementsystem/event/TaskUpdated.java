@@ -0,0 +1,9 @@
+package taskmanagementsystem.event;
+
+/**
+ * Published for any change of a task's own fields. Listeners that need the new state read it themselves.
+ *
+ * @param previousAssigneeId the assignee before the change, if it may have changed; {@code null} otherwise
+ */
+public record TaskUpdated(Long taskId, Long previousAssigneeId) implements DomainEvent {
+}
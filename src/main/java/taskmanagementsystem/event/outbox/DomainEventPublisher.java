@@ -0,0 +1,57 @@
+package taskmanagementsystem.event.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import taskmanagementsystem.entity.OutboxEvent;
+import taskmanagementsystem.event.DomainEvent;
+import taskmanagementsystem.repository.OutboxEventRepository;
+
+import java.time.Instant;
+
+/**
+ * Records domain events in the outbox as part of the caller's transaction.
+ * <p>
+ * An event is stored only if the change it describes commits, and the dispatcher is woken up
+ * right after the commit instead of waiting for its next poll.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher outboxDispatcher;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void publish(DomainEvent event) {
+        Instant now = Instant.now();
+        outboxEventRepository.save(OutboxEvent.builder()
+                .type(event.getClass().getSimpleName())
+                .payload(serialize(event))
+                .createdAt(now)
+                .availableAt(now)
+                .build());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxDispatcher.wakeUp();
+                }
+            });
+        }
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize event " + event, e);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package taskmanagementsystem.event.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import taskmanagementsystem.entity.OutboxEvent;
+import taskmanagementsystem.event.DomainEvent;
+import taskmanagementsystem.event.DomainEventListener;
+import taskmanagementsystem.repository.OutboxEventRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox on a single background thread and hands each event to every {@link DomainEventListener}.
+ * <p>
+ * Events are claimed in batches of {@code tms.outbox.batch-size}: a short transaction locks the due rows and
+ * moves them {@code tms.outbox.claim-timeout} into the future, so other instances skip them and they come back
+ * on their own if this instance dies. The outbox table itself is the queue, so writers never wait for
+ * listeners: when listeners fall behind, events simply stay in the table and {@code outbox.queue.depth} grows.
+ * </p>
+ * <p>
+ * Each event is then delivered in its own transaction, which also deletes it. A listener that fails rolls back
+ * only that event's transaction, so it neither aborts the other events of the batch nor undoes their
+ * deliveries. The failure is recorded in a separate transaction: the event is retried after a growing delay
+ * and left in the table for inspection once {@code tms.outbox.max-attempts} is reached; retries can overtake
+ * the event's original position.
+ * </p>
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher implements SmartLifecycle {
+
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<DomainEventListener> listeners;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate failureTemplate;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration retryDelay;
+    private final int maxAttempts;
+    private final Duration claimTimeout;
+
+    private final Semaphore signal = new Semaphore(0);
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Counter dispatched;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<DomainEventListener> listeners,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${tms.outbox.batch-size:100}") int batchSize,
+                            @Value("${tms.outbox.poll-interval:PT1S}") Duration pollInterval,
+                            @Value("${tms.outbox.retry-delay:PT5S}") Duration retryDelay,
+                            @Value("${tms.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${tms.outbox.claim-timeout:PT1M}") Duration claimTimeout) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.listeners = listeners;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.failureTemplate = new TransactionTemplate(transactionManager);
+        this.failureTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.retryDelay = retryDelay;
+        this.maxAttempts = maxAttempts;
+        this.claimTimeout = claimTimeout;
+        this.dispatched = Counter.builder("outbox.events.dispatched")
+                .description("Events delivered to every listener")
+                .register(meterRegistry);
+        this.failed = Counter.builder("outbox.events.failed")
+                .description("Event deliveries that failed and will be retried")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.dispatch.batch")
+                .description("Time to claim, deliver and remove one batch of events")
+                .register(meterRegistry);
+        Gauge.builder("outbox.queue.depth", queueDepth, AtomicLong::get)
+                .description("Events waiting in the outbox")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Makes the dispatcher poll immediately instead of at its next interval.
+     */
+    public void wakeUp() {
+        signal.release();
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        worker = new Thread(this::run, "outbox-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Outbox dispatcher started with {} listeners", listeners.size());
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        signal.release();
+        try {
+            worker.join(pollInterval.toMillis() * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Outbox dispatcher stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                int locked = batchTimer.record(this::dispatchBatch);
+                queueDepth.updateAndGet(depth -> Math.max(0, depth - locked));
+                if (locked < batchSize) {
+                    queueDepth.set(outboxEventRepository.countPending(maxAttempts));
+                    signal.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    signal.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Outbox dispatch failed", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * Claims one batch of due events and delivers them. Called by the dispatcher thread.
+     *
+     * @return the number of events claimed
+     */
+    public int dispatchBatch() {
+        List<Long> claimed = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<OutboxEvent> events = outboxEventRepository.lockDue(now, maxAttempts, PageRequest.of(0, batchSize));
+            for (OutboxEvent event : events) {
+                event.setAvailableAt(now.plus(claimTimeout));
+            }
+            return events.stream()
+                    .map(OutboxEvent::getId)
+                    .toList();
+        });
+        if (claimed == null) {
+            return 0;
+        }
+        for (Long eventId : claimed) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> deliver(eventId));
+                dispatched.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                failureTemplate.executeWithoutResult(status -> recordFailure(eventId, e));
+            }
+        }
+        return claimed.size();
+    }
+
+    private void deliver(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findById(eventId).orElse(null);
+        if (event == null) {
+            return;
+        }
+        DomainEvent domainEvent;
+        try {
+            domainEvent = objectMapper.readValue(event.getPayload(), DomainEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox event %s cannot be read".formatted(eventId), e);
+        }
+        for (DomainEventListener listener : listeners) {
+            listener.onEvent(eventId, domainEvent);
+        }
+        outboxEventRepository.delete(event);
+    }
+
+    private void recordFailure(Long eventId, RuntimeException e) {
+        outboxEventRepository.findById(eventId).ifPresent(event -> {
+            int attempts = event.getAttempts() + 1;
+            event.setAttempts(attempts);
+            event.setLastError(truncate(String.valueOf(e.getMessage())));
+            event.setAvailableAt(Instant.now().plus(retryDelay.multipliedBy(attempts)));
+            if (attempts >= maxAttempts) {
+                log.error("Giving up on outbox event {} after {} attempts", eventId, attempts, e);
+            } else {
+                log.warn("Delivery of outbox event {} failed, attempt {}", eventId, attempts, e);
+            }
+        });
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,25 @@
+package taskmanagementsystem.event.stream;
+
+import taskmanagementsystem.entity.Role;
+
+/**
+ * A domain event prepared for delivery to subscribers, together with the users it concerns.
+ */
+record TaskChange(Long eventId,
+                  String name,
+                  Object data,
+                  Long authorId,
+                  Long assigneeId,
+                  Long previousAssigneeId) {
+
+    /**
+     * Same rule as the task listing: admins see the tasks they authored, users the tasks assigned to them.
+     * A user also sees the change that took a task away from them.
+     */
+    boolean isVisibleTo(Long userId, Role role) {
+        if (role == Role.ADMIN) {
+            return userId.equals(authorId);
+        }
+        return userId.equals(assigneeId) || userId.equals(previousAssigneeId);
+    }
+}
@@ -0,0 +1,235 @@
+package taskmanagementsystem.event.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import taskmanagementsystem.dto.task.TaskOwnersDto;
+import taskmanagementsystem.entity.TaskStreamEvent;
+import taskmanagementsystem.entity.User;
+import taskmanagementsystem.event.DomainEvent;
+import taskmanagementsystem.event.DomainEventListener;
+import taskmanagementsystem.event.TaskCreated;
+import taskmanagementsystem.event.TaskDeleted;
+import taskmanagementsystem.event.TaskUpdated;
+import taskmanagementsystem.repository.TaskRepository;
+import taskmanagementsystem.repository.TaskStreamEventRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Pushes task changes to the open event streams of the users who can see the changed task.
+ * <p>
+ * The outbox delivers each event to one instance only, so changes are not pushed directly. The instance
+ * that dispatches an event appends it to the shared {@code task_stream_events} table with the next stream
+ * sequence number, which also serves as the SSE event ID. Every instance reads the table in sequence order
+ * when {@link TaskStreamReader} wakes it up and pushes new changes to its own subscribers.
+ * </p>
+ * <p>
+ * The last {@code tms.sse.replay-size} changes are kept. A client that reconnects with {@code Last-Event-ID}
+ * first receives the changes it missed, on whichever instance it reconnects to. Sequence numbers have no gaps,
+ * so the missed range is known to be complete when the first kept change directly follows
+ * {@code Last-Event-ID}; otherwise, or if more changes were missed than are kept, the client receives a
+ * {@code reset} event and should reload its tasks.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TaskEventBroadcaster implements DomainEventListener {
+
+    static final String RESET_EVENT = "reset";
+    private static final int READ_BATCH_SIZE = 500;
+
+    private final TaskStreamEventRepository taskStreamEventRepository;
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor taskExecutor;
+    private final int bufferSize;
+    private final int replaySize;
+    private final Duration timeout;
+
+    private final Map<Long, Set<TaskEventSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private volatile Long readSeq;
+
+    public TaskEventBroadcaster(TaskStreamEventRepository taskStreamEventRepository,
+                                TaskRepository taskRepository,
+                                ObjectMapper objectMapper,
+                                @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                MeterRegistry meterRegistry,
+                                @Value("${tms.sse.buffer-size:256}") int bufferSize,
+                                @Value("${tms.sse.replay-size:10000}") int replaySize,
+                                @Value("${tms.sse.timeout:PT30M}") Duration timeout) {
+        this.taskStreamEventRepository = taskStreamEventRepository;
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+        this.taskExecutor = taskExecutor;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.timeout = timeout;
+        Gauge.builder("sse.subscribers", subscribers, map -> map.values().stream().mapToInt(Set::size).sum())
+                .description("Open task event streams")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(User user, Long lastEventId) {
+        SseEmitter emitter = createEmitter();
+        TaskEventSubscriber subscriber = new TaskEventSubscriber(
+                user.getId(), user.getRole(), emitter, bufferSize, taskExecutor);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(subscriber));
+        synchronized (this) {
+            if (readSeq == null) {
+                readSeq = taskStreamEventRepository.findHeadSeq();
+            }
+            subscribers.computeIfAbsent(user.getId(), id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            } else {
+                subscriber.skipTo(readSeq);
+            }
+        }
+        log.info("User {} subscribed to task events", user.getId());
+        return emitter;
+    }
+
+    /**
+     * Appends the change to the shared stream. Runs in the dispatcher's transaction, so the change
+     * becomes visible to readers when the outbox event is removed.
+     */
+    @Override
+    public void onEvent(Long eventId, DomainEvent event) {
+        TaskStreamEvent change = toStreamEvent(event);
+        if (change == null) {
+            return;
+        }
+        long seq = taskStreamEventRepository.append(change.getName(), change.getPayload(),
+                change.getAuthorId(), change.getAssigneeId(), change.getPreviousAssigneeId());
+        taskStreamEventRepository.notifyReaders(seq);
+    }
+
+    /**
+     * Pushes the changes appended since the last call to the subscribers of this instance and drops
+     * changes that fell out of the replay window. Called by a single thread.
+     */
+    public void poll() {
+        synchronized (this) {
+            if (readSeq == null) {
+                readSeq = taskStreamEventRepository.findHeadSeq();
+                return;
+            }
+        }
+        List<TaskStreamEvent> changes;
+        do {
+            changes = taskStreamEventRepository.findBySeqGreaterThanOrderBySeq(readSeq, Limit.of(READ_BATCH_SIZE));
+            synchronized (this) {
+                for (TaskStreamEvent change : changes) {
+                    TaskChange taskChange = toChange(change);
+                    Stream.of(change.getAuthorId(), change.getAssigneeId(), change.getPreviousAssigneeId())
+                            .distinct()
+                            .map(userId -> userId != null ? subscribers.get(userId) : null)
+                            .filter(Objects::nonNull)
+                            .flatMap(Set::stream)
+                            .forEach(subscriber -> subscriber.deliver(taskChange));
+                    readSeq = change.getSeq();
+                }
+            }
+        } while (changes.size() == READ_BATCH_SIZE);
+        if (!changes.isEmpty() && readSeq > replaySize) {
+            taskStreamEventRepository.deleteUpTo(readSeq - replaySize);
+        }
+    }
+
+    /**
+     * Creates the emitter of a new stream.
+     */
+    protected SseEmitter createEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    /**
+     * Sends the changes after {@code lastEventId}, or {@code reset} if they cannot all be sent. Runs while
+     * {@link #poll()} is held off, so the subscriber receives the stream without gaps from here on; changes
+     * that {@link #poll()} delivers afterwards and that were already replayed are skipped by the subscriber.
+     */
+    private void replay(TaskEventSubscriber subscriber, long lastEventId) {
+        long headSeq = taskStreamEventRepository.findHeadSeq();
+        if (lastEventId == headSeq) {
+            subscriber.skipTo(lastEventId);
+            return;
+        }
+        List<TaskStreamEvent> missed = lastEventId < headSeq
+                ? taskStreamEventRepository.findBySeqGreaterThanOrderBySeq(lastEventId, Limit.of(replaySize + 1))
+                : List.of();
+        boolean complete = !missed.isEmpty()
+                && missed.get(0).getSeq() == lastEventId + 1
+                && missed.size() <= replaySize;
+        if (!complete) {
+            long resetSeq = missed.isEmpty() ? headSeq : Math.max(headSeq, missed.get(missed.size() - 1).getSeq());
+            subscriber.skipTo(resetSeq);
+            subscriber.offer(new TaskChange(resetSeq, RESET_EVENT, Map.of("lastEventId", lastEventId),
+                    null, null, null));
+            return;
+        }
+        for (TaskStreamEvent change : missed) {
+            if (!subscriber.deliver(toChange(change))) {
+                return;
+            }
+        }
+    }
+
+    private TaskChange toChange(TaskStreamEvent change) {
+        return new TaskChange(change.getSeq(), change.getName(), change.getPayload(),
+                change.getAuthorId(), change.getAssigneeId(), change.getPreviousAssigneeId());
+    }
+
+    private TaskStreamEvent toStreamEvent(DomainEvent event) {
+        if (event instanceof TaskCreated created) {
+            return streamEvent(event, created.authorId(), created.assigneeId(), null);
+        }
+        if (event instanceof TaskDeleted deleted) {
+            return streamEvent(event, deleted.authorId(), deleted.assigneeId(), null);
+        }
+        Long previousAssigneeId = event instanceof TaskUpdated updated ? updated.previousAssigneeId() : null;
+        List<TaskOwnersDto> owners = taskRepository.findOwnersByIdIn(List.of(event.taskId()));
+        if (owners.isEmpty()) {
+            return null;
+        }
+        TaskOwnersDto task = owners.get(0);
+        return streamEvent(event, task.authorId(), task.assigneeId(), previousAssigneeId);
+    }
+
+    private TaskStreamEvent streamEvent(DomainEvent event, Long authorId, Long assigneeId, Long previousAssigneeId) {
+        try {
+            return TaskStreamEvent.builder()
+                    .name(event.getClass().getSimpleName())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .authorId(authorId)
+                    .assigneeId(assigneeId)
+                    .previousAssigneeId(previousAssigneeId)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event, e);
+        }
+    }
+
+    private void remove(TaskEventSubscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.getUserId(), (userId, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+}
@@ -0,0 +1,115 @@
+package taskmanagementsystem.event.stream;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import taskmanagementsystem.entity.Role;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open event stream. Changes are buffered in a bounded queue and written by the task executor,
+ * so a slow connection never blocks the dispatcher. When the buffer is full the stream is closed;
+ * the client reconnects with {@code Last-Event-ID} and catches up from the stream table.
+ */
+@Slf4j
+class TaskEventSubscriber {
+
+    @Getter
+    private final Long userId;
+    private final Role role;
+    private final SseEmitter emitter;
+    private final BlockingQueue<TaskChange> buffer;
+    private final TaskExecutor executor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    private long lastSeq;
+
+    TaskEventSubscriber(Long userId, Role role, SseEmitter emitter, int bufferSize, TaskExecutor executor) {
+        this.userId = userId;
+        this.role = role;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.executor = executor;
+    }
+
+    boolean isVisible(TaskChange change) {
+        return change.isVisibleTo(userId, role);
+    }
+
+    /**
+     * Offers the change if it follows the last change seen by this stream and is visible to its user.
+     * Called under the broadcaster's lock, so replayed and polled changes are never sent twice.
+     *
+     * @return {@code false} if the buffer was full and the stream has been closed
+     */
+    boolean deliver(TaskChange change) {
+        if (change.eventId() <= lastSeq) {
+            return !closed;
+        }
+        lastSeq = change.eventId();
+        return !isVisible(change) ? !closed : offer(change);
+    }
+
+    /**
+     * Marks the changes up to {@code seq} as seen, e.g. after they were covered by a replay or a reset.
+     */
+    void skipTo(long seq) {
+        lastSeq = Math.max(lastSeq, seq);
+    }
+
+    /**
+     * @return {@code false} if the buffer was full and the stream has been closed
+     */
+    boolean offer(TaskChange change) {
+        if (closed) {
+            return false;
+        }
+        if (!buffer.offer(change)) {
+            log.warn("Event stream of user {} fell behind, closing it", userId);
+            close();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    void close() {
+        closed = true;
+        buffer.clear();
+        emitter.complete();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            TaskChange change;
+            while (!closed && (change = buffer.poll()) != null) {
+                SseEmitter.SseEventBuilder event = SseEmitter.event().name(change.name());
+                if (change.eventId() != null) {
+                    event.id(change.eventId().toString());
+                }
+                emitter.send(event.data(change.data(), MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Event stream of user {} is gone", userId, e);
+            closed = true;
+            buffer.clear();
+        } finally {
+            draining.set(false);
+        }
+        if (!closed && !buffer.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package taskmanagementsystem.event.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Wakes the {@link TaskEventBroadcaster} of this instance whenever any instance appends to the task stream.
+ * <p>
+ * Holds one connection that {@code LISTEN}s on the {@code task_stream} channel and reads the stream as soon as
+ * a notification arrives, and at least every {@code tms.sse.poll-interval} in case a notification was lost
+ * while reconnecting. Databases without notifications are simply polled at that interval.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TaskStreamReader implements SmartLifecycle {
+
+    private static final String CHANNEL = "task_stream";
+
+    private final DataSource dataSource;
+    private final TaskEventBroadcaster broadcaster;
+    private final Duration pollInterval;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public TaskStreamReader(DataSource dataSource,
+                            TaskEventBroadcaster broadcaster,
+                            @Value("${tms.sse.poll-interval:PT5S}") Duration pollInterval) {
+        this.dataSource = dataSource;
+        this.broadcaster = broadcaster;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        worker = new Thread(this::run, "task-stream-reader");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Task stream reader started");
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(pollInterval.toMillis() * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Task stream reader stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection notifications = listen(connection);
+                while (running) {
+                    broadcaster.poll();
+                    await(notifications);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (SQLException | RuntimeException e) {
+                log.error("Reading the task stream failed", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private PGConnection listen(Connection connection) throws SQLException {
+        if (!connection.isWrapperFor(PGConnection.class)) {
+            return null;
+        }
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("listen " + CHANNEL);
+        }
+        return connection.unwrap(PGConnection.class);
+    }
+
+    private void await(PGConnection notifications) throws SQLException, InterruptedException {
+        if (notifications == null) {
+            Thread.sleep(pollInterval.toMillis());
+            return;
+        }
+        notifications.getNotifications((int) pollInterval.toMillis());
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package taskmanagementsystem.jwt;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.User;
+import taskmanagementsystem.exception.UserRoleException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Authenticated user resolved from a verified JWT token.
+ *
+ * @param expiresAt expiration time of the token the principal was resolved from
+ */
+public record JwtPrincipal(Long userId,
+                           String email,
+                           Role role,
+                           Instant expiresAt) {
+
+    /**
+     * @return the principal of the current request, or empty if the request is not authenticated with a token
+     */
+    public static Optional<JwtPrincipal> current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return Optional.of(principal);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the principal of the current request if it is the user with the given ID
+     * @throws UserRoleException if the request is authenticated as another user or not with a token
+     */
+    public static JwtPrincipal actingAs(Long userId) {
+        return current()
+                .filter(principal -> principal.userId().equals(userId))
+                .orElseThrow(() -> new UserRoleException("Not allowed to act as user with id %s".formatted(userId)));
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    /**
+     * @return a detached user carrying the ID, email and role from the token, for permission checks only;
+     * associations take a reference from the repository instead
+     */
+    public User toUser() {
+        return User.builder()
+                .id(userId)
+                .email(email)
+                .role(role)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package taskmanagementsystem.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import taskmanagementsystem.exception.InvalidJwtAuthenticationException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Bounded cache of verified tokens and the principals resolved from them.
+ * <p>
+ * A token is parsed and its signature verified only on the first request that presents it.
+ * Entries expire together with the token they were created from, so an expired token is
+ * never served from the cache. Invalid tokens are not cached.
+ * Cache-miss validations are timed as {@code jwt.validation}.
+ * </p>
+ */
+@Component
+public class JwtPrincipalCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, JwtPrincipal> principals;
+    private final Timer validationTimer;
+
+    public JwtPrincipalCache(JwtTokenProvider jwtTokenProvider,
+                             MeterRegistry meterRegistry,
+                             @Value("${tms.jwt.principal-cache.maximum-size:10000}") long maximumSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenLifetimeExpiry())
+                .recordStats()
+                .build();
+        this.validationTimer = Timer.builder("jwt.validation")
+                .description("Time to verify a JWT token and resolve its principal")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "jwtPrincipals");
+    }
+
+    /**
+     * @throws InvalidJwtAuthenticationException if the token is expired, malformed or not an access token
+     */
+    public JwtPrincipal resolve(String token) {
+        return principals.get(token, this::load);
+    }
+
+    private JwtPrincipal load(String token) {
+        return validationTimer.record(() -> jwtTokenProvider.parseAccessToken(token));
+    }
+
+    private static class TokenLifetimeExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String token, JwtPrincipal principal, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
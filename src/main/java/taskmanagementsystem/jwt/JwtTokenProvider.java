@@ -4,43 +4,126 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import taskmanagementsystem.entity.Role;
 import taskmanagementsystem.exception.InvalidJwtAuthenticationException;
 
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 
+/**
+ * Issues and verifies access and refresh tokens.
+ * <p>
+ * Access tokens carry the user ID and role, so requests are authorized without reading the user.
+ * Refresh tokens carry only the user ID and a unique token ID, which is recorded when the token
+ * is used or revoked so that it cannot be used again.
+ * </p>
+ */
 @Component
 public class JwtTokenProvider {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String TYPE_CLAIM = "type";
+    private static final String REFRESH_TYPE = "refresh";
+
     private final String secretKey = "secret-key";
-    private final long validityInMilliseconds = 3600000; // 1 час
+    private final long accessTokenValidityInMilliseconds;
+    private final long refreshTokenValidityInMilliseconds;
 
-    public String createToken(String email, Role role) {
-        Claims claims = Jwts.claims().setSubject(email);
-        claims.put("role", role.toString());
+    public JwtTokenProvider(@Value("${tms.jwt.access-token-validity:PT15M}") Duration accessTokenValidity,
+                            @Value("${tms.jwt.refresh-token-validity:P14D}") Duration refreshTokenValidity) {
+        this.accessTokenValidityInMilliseconds = accessTokenValidity.toMillis();
+        this.refreshTokenValidityInMilliseconds = refreshTokenValidity.toMillis();
+    }
 
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + validityInMilliseconds);
+    public String createToken(Long userId, String email, Role role) {
+        Claims claims = Jwts.claims().setSubject(email);
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(ROLE_CLAIM, role.toString());
+        return sign(claims, accessTokenValidityInMilliseconds);
+    }
 
-        return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(SignatureAlgorithm.HS256, secretKey)
-                .compact();
+    public String createRefreshToken(Long userId, String email) {
+        Claims claims = Jwts.claims().setSubject(email);
+        claims.setId(UUID.randomUUID().toString());
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(TYPE_CLAIM, REFRESH_TYPE);
+        return sign(claims, refreshTokenValidityInMilliseconds);
     }
 
     public boolean validateToken(String token) {
+        parseClaims(token);
+        return true;
+    }
+
+    public String getEmailFromToken(String token) {
+        return parseClaims(token).getSubject();
+    }
+
+    /**
+     * Verifies an access token and returns the principal it was issued to.
+     *
+     * @throws InvalidJwtAuthenticationException if the token is expired, invalid or not an access token
+     */
+    public JwtPrincipal parseAccessToken(String token) {
+        Claims claims = parseClaims(token);
+        if (REFRESH_TYPE.equals(claims.get(TYPE_CLAIM)) || claims.get(ROLE_CLAIM) == null) {
+            throw new InvalidJwtAuthenticationException("Expired or invalid JWT token");
+        }
+        return new JwtPrincipal(
+                getUserId(claims),
+                claims.getSubject(),
+                Role.valueOf(claims.get(ROLE_CLAIM, String.class)),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    /**
+     * Verifies a refresh token and returns its claims. Whether it was revoked is not checked here.
+     *
+     * @throws InvalidJwtAuthenticationException if the token is expired, invalid or not a refresh token
+     */
+    public Claims parseRefreshToken(String token) {
+        Claims claims = parseClaims(token);
+        if (!REFRESH_TYPE.equals(claims.get(TYPE_CLAIM)) || claims.getId() == null) {
+            throw new InvalidJwtAuthenticationException("Expired or invalid refresh token");
+        }
+        return claims;
+    }
+
+    public Long getUserId(Claims claims) {
+        Object userId = claims.get(USER_ID_CLAIM);
+        if (!(userId instanceof Number number)) {
+            throw new InvalidJwtAuthenticationException("Expired or invalid JWT token");
+        }
+        return number.longValue();
+    }
+
+    /**
+     * Verifies the signature and expiration of the token and returns its claims.
+     *
+     * @throws InvalidJwtAuthenticationException if the token is expired or invalid
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return true;
+            return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
         } catch (JwtException | IllegalArgumentException e) {
             throw new InvalidJwtAuthenticationException("Expired or invalid JWT token");
         }
     }
 
-    public String getEmailFromToken(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().getSubject();
+    private String sign(Claims claims, long validityInMilliseconds) {
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + validityInMilliseconds);
+
+        return Jwts.builder()
+                .setClaims(claims)
+                .setIssuedAt(now)
+                .setExpiration(validity)
+                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .compact();
     }
 }
@@ -3,10 +3,14 @@ package taskmanagementsystem.mapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
+import taskmanagementsystem.dto.comment.CommentDto;
 import taskmanagementsystem.dto.task.TaskCreateDto;
 import taskmanagementsystem.dto.task.TaskDto;
+import taskmanagementsystem.dto.task.TaskExportDto;
 import taskmanagementsystem.entity.Task;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface TaskMapper {
 
@@ -14,5 +18,26 @@ public interface TaskMapper {
 
     @Mapping(source = "author.id", target = "authorId")
     @Mapping(source = "assignee.id", target = "assigneeId")
+    @Mapping(target = "commentCount", expression = "java(task.getComments() != null ? (long) task.getComments().size() : null)")
     TaskDto toTaskDto(Task task);
+
+    @Mapping(source = "author.id", target = "authorId")
+    @Mapping(source = "assignee.id", target = "assigneeId")
+    @Mapping(target = "comments", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    TaskDto toTaskDtoWithoutComments(Task task);
+
+    /**
+     * Maps a task with only its latest comments instead of the whole thread.
+     */
+    default TaskDto toTaskPreviewDto(Task task, List<CommentDto> latestComments, long commentCount) {
+        TaskDto taskDto = toTaskDtoWithoutComments(task);
+        return new TaskDto(taskDto.id(), taskDto.title(), taskDto.description(), taskDto.status(),
+                taskDto.priority(), taskDto.authorId(), taskDto.assigneeId(), latestComments, commentCount,
+                taskDto.version());
+    }
+
+    @Mapping(source = "author.id", target = "authorId")
+    @Mapping(source = "assignee.id", target = "assigneeId")
+    TaskExportDto toTaskExportDto(Task task);
 }
@@ -1,13 +1,73 @@
 package taskmanagementsystem.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import taskmanagementsystem.dto.task.TaskCommentCountDto;
 import taskmanagementsystem.entity.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    public List<Comment> findByTaskId(Long taskId);
+    List<Comment> findByTaskIdOrderById(Long taskId);
+
+    /**
+     * Reads one page of a task's comments in creation order, starting after the given comment.
+     */
+    List<Comment> findByTaskIdAndIdGreaterThanOrderById(Long taskId, Long id, Pageable pageable);
+
+    /**
+     * Reads the newest {@code limit} comments of each given task, newest first within a task.
+     */
+    @Query(value = """
+            select c.* from comments c
+            where c.id in (
+                select ranked.id from (
+                    select id, row_number() over (partition by task_id order by id desc) as comment_rank
+                    from comments
+                    where task_id in (:taskIds)
+                ) ranked
+                where ranked.comment_rank <= :limit
+            )
+            order by c.task_id, c.id desc
+            """, nativeQuery = true)
+    List<Comment> findLatestByTaskIdIn(@Param("taskIds") Collection<Long> taskIds, @Param("limit") int limit);
+
+    @Query("""
+            select new taskmanagementsystem.dto.task.TaskCommentCountDto(c.task.id, count(c))
+            from Comment c
+            where c.task.id in :taskIds
+            group by c.task.id
+            """)
+    List<TaskCommentCountDto> countByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("""
+            select c from Comment c join c.task t
+            where t.author.id = :userId and c.changeXid >= :since and c.changeXid < :until
+            order by c.changeXid, c.changeSeq
+            """)
+    List<Comment> findChangedOnTasksOfAuthor(@Param("userId") Long userId,
+                                             @Param("since") long since,
+                                             @Param("until") long until,
+                                             Pageable pageable);
+
+    @Query("""
+            select c from Comment c join c.task t
+            where t.assignee.id = :userId and c.changeXid >= :since and c.changeXid < :until
+            order by c.changeXid, c.changeSeq
+            """)
+    List<Comment> findChangedOnTasksOfAssignee(@Param("userId") Long userId,
+                                               @Param("since") long since,
+                                               @Param("until") long until,
+                                               Pageable pageable);
+
+    /**
+     * Reads the comments of the given tasks written before transaction {@code before}, in creation order.
+     */
+    List<Comment> findByTaskIdInAndChangeXidLessThanOrderById(Collection<Long> taskIds, long before);
 }
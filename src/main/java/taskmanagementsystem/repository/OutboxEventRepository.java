@@ -0,0 +1,31 @@
+package taskmanagementsystem.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import taskmanagementsystem.entity.OutboxEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the oldest events that are due for delivery. Rows locked by another dispatcher are skipped
+     * ({@code FOR UPDATE SKIP LOCKED}), so several instances can drain the outbox side by side.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.availableAt <= :now and e.attempts < :maxAttempts order by e.id")
+    List<OutboxEvent> lockDue(@Param("now") Instant now, @Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    @Query("select count(e) from OutboxEvent e where e.attempts < :maxAttempts")
+    long countPending(@Param("maxAttempts") int maxAttempts);
+}
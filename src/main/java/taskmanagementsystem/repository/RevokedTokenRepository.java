@@ -0,0 +1,31 @@
+package taskmanagementsystem.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import taskmanagementsystem.entity.RevokedToken;
+
+import java.time.Instant;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Records the token as revoked.
+     *
+     * @return {@code 1} if the token was revoked by this call, {@code 0} if it had already been revoked
+     */
+    @Modifying
+    @Query(value = """
+            insert into revoked_tokens (token_id, expires_at)
+            values (:tokenId, :expiresAt)
+            on conflict do nothing
+            """, nativeQuery = true)
+    int revoke(@Param("tokenId") String tokenId, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,50 @@
+package taskmanagementsystem.repository;
+
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import taskmanagementsystem.entity.TaskCounterDelta;
+
+import java.util.List;
+
+@Repository
+public interface TaskCounterDeltaRepository extends JpaRepository<TaskCounterDelta, Long> {
+
+    List<TaskCounterDelta> findByUserId(Long userId);
+
+    /**
+     * Moves up to {@code limit} of the oldest deltas into {@code task_counters} in one statement. Counter rows
+     * are locked in key order, so concurrent roll-ups never deadlock, and deltas locked by another roll-up
+     * are skipped.
+     *
+     * @return the number of deltas rolled up; fewer than {@code limit} means none are left
+     */
+    @Transactional
+    @Query(value = """
+            with moved as (
+                delete from task_counter_deltas
+                where id in (
+                    select id from task_counter_deltas
+                    order by id
+                    limit :limit
+                    for update skip locked
+                )
+                returning user_id, relation, status, priority, task_delta, comment_delta
+            ),
+            rolled as (
+                insert into task_counters (user_id, relation, status, priority, task_count, comment_count)
+                select user_id, relation, status, priority, sum(task_delta), sum(comment_delta)
+                from moved
+                group by user_id, relation, status, priority
+                order by user_id, relation, status, priority
+                on conflict (user_id, relation, status, priority) do update
+                    set task_count = task_counters.task_count + excluded.task_count,
+                        comment_count = task_counters.comment_count + excluded.comment_count
+                returning 1
+            )
+            select count(*) from moved
+            """, nativeQuery = true)
+    int rollUp(@Param("limit") int limit);
+}
@@ -0,0 +1,17 @@
+package taskmanagementsystem.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import taskmanagementsystem.entity.TaskCounter;
+import taskmanagementsystem.entity.TaskCounterId;
+
+import java.util.List;
+
+@Repository
+public interface TaskCounterRepository extends JpaRepository<TaskCounter, TaskCounterId> {
+
+    /**
+     * Reads at most one row per relation, status and priority through the primary key.
+     */
+    List<TaskCounter> findByIdUserId(Long userId);
+}
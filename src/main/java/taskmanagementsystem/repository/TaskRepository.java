@@ -1,10 +1,83 @@
 package taskmanagementsystem.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import taskmanagementsystem.dto.task.TaskOwnersDto;
+import taskmanagementsystem.entity.Status;
 import taskmanagementsystem.entity.Task;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+
+    /**
+     * Loads a page of tasks together with their author and assignee in the page query itself.
+     * Comments are not part of this plan: fetching a collection would force in-memory pagination.
+     */
+    @Override
+    @EntityGraph(Task.WITH_USERS_GRAPH)
+    Page<Task> findAll(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * Initializes the comments of already loaded tasks with a single query.
+     */
+    @EntityGraph(Task.WITH_COMMENTS_GRAPH)
+    List<Task> findAllWithCommentsByIdIn(Collection<Long> ids);
+
+    @EntityGraph(Task.WITH_COMMENTS_GRAPH)
+    Optional<Task> findWithCommentsById(Long id);
+
+    @Query("select t.title from Task t where t.title in :titles")
+    List<String> findExistingTitles(@Param("titles") Collection<String> titles);
+
+    @Query("""
+            select new taskmanagementsystem.dto.task.TaskOwnersDto(t.id, t.author.id, a.id)
+            from Task t left join t.assignee a
+            where t.id in :ids
+            """)
+    List<TaskOwnersDto> findOwnersByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Task t set t.status = :status, t.version = t.version + 1 where t.id in :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") Status status);
+
+    /**
+     * Changes the status of a single task without loading it.
+     *
+     * @param version    the expected current version, or {@code null} to skip the check
+     * @param assigneeId the user the task must be assigned to, or {@code null} to skip the check
+     * @return {@code 1} if the task was updated, {@code 0} if it does not exist or a check failed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t set t.status = :status, t.version = t.version + 1
+            where t.id = :id
+              and (:version is null or t.version = :version)
+              and (:assigneeId is null or t.assignee.id = :assigneeId)
+            """)
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") Status status,
+                     @Param("version") Long version,
+                     @Param("assigneeId") Long assigneeId);
+
+    /**
+     * @return the ID of the oldest transaction still running; every transaction with a lower ID has ended
+     */
+    @Query(value = "select tms_change_horizon()", nativeQuery = true)
+    long findChangeHorizon();
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Task t where t.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
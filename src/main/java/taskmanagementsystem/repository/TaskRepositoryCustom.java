@@ -0,0 +1,49 @@
+package taskmanagementsystem.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import taskmanagementsystem.dto.task.TaskOwnersDto;
+import taskmanagementsystem.dto.task.TaskUpdateDto;
+import taskmanagementsystem.dto.task.TaskUpdateResultDto;
+import taskmanagementsystem.entity.Task;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Streams the matching tasks ordered by id through a forward-only cursor.
+     * <p>
+     * Rows are fetched from the database {@code fetchSize} at a time. The stream must be consumed
+     * and closed inside a transaction.
+     * </p>
+     */
+    Stream<Task> streamAll(Specification<Task> spec, int fetchSize);
+
+    /**
+     * Writes the status, priority, description and assignee present in {@code changes} with a single
+     * UPDATE, without loading the task. Absent fields keep their current value.
+     *
+     * @param version    the expected current version, or {@code null} to skip the check
+     * @param assigneeId the user the task must be assigned to, or {@code null} to skip the check
+     * @return the new version and the assignee before the update, or empty if the task does not exist
+     * or a check failed
+     */
+    Optional<TaskUpdateResultDto> updateFields(Long id, TaskUpdateDto changes, Long version, Long assigneeId);
+
+    /**
+     * Deletes a task with a single DELETE, without loading it. Its comments are removed by the database.
+     *
+     * @return the owners of the deleted task, or empty if it does not exist
+     */
+    Optional<TaskOwnersDto> deleteReturningOwners(Long id);
+
+    /**
+     * Deletes up to {@code limit} tasks of an author, lowest ids first, with a single DELETE. Their comments
+     * are removed by the database.
+     *
+     * @return the owners of the deleted tasks; fewer than {@code limit} means none are left
+     */
+    List<TaskOwnersDto> deleteByAuthorIdReturningOwners(Long authorId, int limit);
+}
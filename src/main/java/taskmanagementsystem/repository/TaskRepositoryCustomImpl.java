@@ -0,0 +1,142 @@
+package taskmanagementsystem.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.data.jpa.domain.Specification;
+import taskmanagementsystem.dto.task.TaskOwnersDto;
+import taskmanagementsystem.dto.task.TaskUpdateDto;
+import taskmanagementsystem.dto.task.TaskUpdateResultDto;
+import taskmanagementsystem.entity.Task;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    /**
+     * The self-join reads the row as it was before the update, so the previous assignee is
+     * returned by the same statement.
+     */
+    private static final String UPDATE_FIELDS_SQL = """
+            update tasks t
+            set status      = coalesce(:status, t.status),
+                priority    = coalesce(:priority, t.priority),
+                description = coalesce(:description, t.description),
+                assignee_id = coalesce(:newAssigneeId, t.assignee_id),
+                version     = t.version + 1
+            from tasks previous
+            where t.id = :id
+              and previous.id = t.id
+              and (:version is null or t.version = :version)
+              and (:assigneeId is null or t.assignee_id = :assigneeId)
+            returning t.version, previous.assignee_id
+            """;
+
+    private static final String DELETE_RETURNING_OWNERS_SQL = """
+            delete from tasks
+            where id = :id
+            returning id, author_id, assignee_id
+            """;
+
+    private static final String DELETE_BY_AUTHOR_RETURNING_OWNERS_SQL = """
+            delete from tasks
+            where id in (
+                select id from tasks
+                where author_id = :authorId
+                order by id
+                limit :limit
+            )
+            returning id, author_id, assignee_id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Task> streamAll(Specification<Task> spec, int fetchSize) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(criteriaBuilder.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Optional<TaskUpdateResultDto> updateFields(Long id, TaskUpdateDto changes, Long version, Long assigneeId) {
+        NativeQuery<?> query = taskQuery(UPDATE_FIELDS_SQL)
+                .setParameter("id", id)
+                .setParameter("status", changes.status() != null ? changes.status().name() : null,
+                        StandardBasicTypes.STRING)
+                .setParameter("priority", changes.priority() != null ? changes.priority().name() : null,
+                        StandardBasicTypes.STRING)
+                .setParameter("description", changes.description(), StandardBasicTypes.STRING)
+                .setParameter("newAssigneeId", changes.assigneeId(), StandardBasicTypes.LONG)
+                .setParameter("version", version, StandardBasicTypes.LONG)
+                .setParameter("assigneeId", assigneeId, StandardBasicTypes.LONG);
+        List<Object[]> rows = resultRows(query);
+        return rows.stream()
+                .findFirst()
+                .map(row -> new TaskUpdateResultDto(toLong(row[0]), toLong(row[1])));
+    }
+
+    @Override
+    public Optional<TaskOwnersDto> deleteReturningOwners(Long id) {
+        NativeQuery<?> query = taskQuery(DELETE_RETURNING_OWNERS_SQL)
+                .setParameter("id", id);
+        List<Object[]> rows = resultRows(query);
+        return rows.stream()
+                .findFirst()
+                .map(row -> new TaskOwnersDto(toLong(row[0]), toLong(row[1]), toLong(row[2])));
+    }
+
+    @Override
+    public List<TaskOwnersDto> deleteByAuthorIdReturningOwners(Long authorId, int limit) {
+        NativeQuery<?> query = taskQuery(DELETE_BY_AUTHOR_RETURNING_OWNERS_SQL)
+                .setParameter("authorId", authorId)
+                .setParameter("limit", limit);
+        return resultRows(query).stream()
+                .map(row -> new TaskOwnersDto(toLong(row[0]), toLong(row[1]), toLong(row[2])))
+                .toList();
+    }
+
+    /**
+     * Creates a native statement that changes tasks. Pending task changes are flushed before it runs.
+     */
+    private NativeQuery<?> taskQuery(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Task.class);
+    }
+
+    /**
+     * Runs the statement and detaches loaded entities afterwards, so that tasks read earlier in the
+     * transaction are not used with their state from before the change. Every pending change, not only
+     * those of tasks, is flushed first so that clearing the persistence context does not discard it.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object[]> resultRows(NativeQuery<?> query) {
+        entityManager.flush();
+        List<Object[]> rows = (List<Object[]>) query.getResultList();
+        entityManager.clear();
+        return rows;
+    }
+
+    private Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+}
@@ -0,0 +1,67 @@
+package taskmanagementsystem.repository;
+
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import taskmanagementsystem.entity.TaskStreamEvent;
+
+import java.util.List;
+
+/**
+ * Every method runs on the primary: a replica lagging behind the head row would make the broadcaster miss
+ * changes or reset streams that are still covered.
+ */
+@Repository
+public interface TaskStreamEventRepository extends JpaRepository<TaskStreamEvent, Long> {
+
+    /**
+     * Appends a change with the next stream sequence number. The head row stays locked until the calling
+     * transaction ends, so concurrent dispatchers on other instances wait and sequence numbers become
+     * visible in increasing order, without gaps.
+     *
+     * @return the sequence number of the change
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    @Query(value = """
+            with head as (
+                update task_stream_head set last_seq = last_seq + 1 where id = 1 returning last_seq
+            )
+            insert into task_stream_events (seq, name, payload, author_id, assignee_id, previous_assignee_id)
+            select last_seq, :name, :payload, cast(:authorId as bigint), cast(:assigneeId as bigint),
+                   cast(:previousAssigneeId as bigint)
+            from head
+            returning seq
+            """, nativeQuery = true)
+    long append(@Param("name") String name,
+                @Param("payload") String payload,
+                @Param("authorId") Long authorId,
+                @Param("assigneeId") Long assigneeId,
+                @Param("previousAssigneeId") Long previousAssigneeId);
+
+    /**
+     * Wakes the stream readers of every instance once the calling transaction commits.
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    @Query(value = "select count(*) from (select pg_notify('task_stream', cast(:seq as text))) notified",
+            nativeQuery = true)
+    long notifyReaders(@Param("seq") long seq);
+
+    /**
+     * @return the sequence number of the latest change, including changes already pruned
+     */
+    @Transactional
+    @Query(value = "select last_seq from task_stream_head where id = 1", nativeQuery = true)
+    long findHeadSeq();
+
+    @Transactional
+    List<TaskStreamEvent> findBySeqGreaterThanOrderBySeq(long seq, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("delete from TaskStreamEvent e where e.seq <= :seq")
+    int deleteUpTo(@Param("seq") long seq);
+}
@@ -0,0 +1,34 @@
+package taskmanagementsystem.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import taskmanagementsystem.entity.Tombstone;
+
+import java.util.List;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    @Query("""
+            select t from Tombstone t
+            where t.authorId = :userId and t.changeXid >= :since and t.changeXid < :until
+            order by t.changeXid, t.changeSeq
+            """)
+    List<Tombstone> findForAuthor(@Param("userId") Long userId,
+                                  @Param("since") long since,
+                                  @Param("until") long until,
+                                  Pageable pageable);
+
+    @Query("""
+            select t from Tombstone t
+            where t.assigneeId = :userId and t.changeXid >= :since and t.changeXid < :until
+            order by t.changeXid, t.changeSeq
+            """)
+    List<Tombstone> findForAssignee(@Param("userId") Long userId,
+                                    @Param("since") long since,
+                                    @Param("until") long until,
+                                    Pageable pageable);
+}
@@ -0,0 +1,14 @@
+package taskmanagementsystem.repository;
+
+import taskmanagementsystem.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Looks the user up by the {@code email} natural id, so that both the id resolution and the
+     * user itself are served from the second-level cache when present.
+     */
+    Optional<User> loadByEmail(String email);
+}
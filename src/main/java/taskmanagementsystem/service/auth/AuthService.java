@@ -3,11 +3,22 @@ package taskmanagementsystem.service.auth;
 import org.springframework.http.ResponseEntity;
 import taskmanagementsystem.dto.auth.AuthenticationRequest;
 import taskmanagementsystem.dto.auth.AuthenticationResponse;
+import taskmanagementsystem.dto.auth.RefreshTokenRequest;
 import taskmanagementsystem.dto.auth.RegistrationRequest;
 
 public interface AuthService {
 
     ResponseEntity<String> register(RegistrationRequest request);
 
-    ResponseEntity<AuthenticationResponse> login(AuthenticationRequest request);
+    ResponseEntity<AuthenticationResponse> login(AuthenticationRequest request, String clientAddress);
+
+    /**
+     * Exchanges a refresh token for a new access and refresh token. The presented refresh token is revoked.
+     */
+    ResponseEntity<AuthenticationResponse> refresh(RefreshTokenRequest request);
+
+    /**
+     * Revokes the refresh token. Access tokens issued with it stay valid until they expire.
+     */
+    ResponseEntity<Void> logout(RefreshTokenRequest request);
 }
@@ -1,18 +1,21 @@
 package taskmanagementsystem.service.auth;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import taskmanagementsystem.dto.auth.AuthenticationRequest;
 import taskmanagementsystem.dto.auth.AuthenticationResponse;
+import taskmanagementsystem.dto.auth.RefreshTokenRequest;
 import taskmanagementsystem.dto.auth.RegistrationRequest;
 import taskmanagementsystem.entity.Role;
 import taskmanagementsystem.entity.User;
+import taskmanagementsystem.exception.InvalidJwtAuthenticationException;
 import taskmanagementsystem.jwt.JwtTokenProvider;
+import taskmanagementsystem.repository.RevokedTokenRepository;
 import taskmanagementsystem.repository.UserRepository;
 
 @Service
@@ -21,19 +24,25 @@ import taskmanagementsystem.repository.UserRepository;
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginRateLimiter loginRateLimiter;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RevokedTokenRepository revokedTokenRepository;
 
+    /**
+     * Hashes the password before anything is written, so no transaction or connection is held while it is
+     * computed. Two concurrent registrations of the same email are told apart by the unique email constraint.
+     */
     @Override
-    @Transactional
     public ResponseEntity<String> register(RegistrationRequest request) {
         if (userRepository.existsByEmail(request.email())) {
             return ResponseEntity.badRequest().body("Email already exists");
         }
+        String password = passwordHashingService.encode(request.password());
         Role role = request.isAdmin() ? Role.ADMIN : Role.USER;
         User user = User.builder()
                 .email(request.email())
-                .password(passwordEncoder.encode(request.password()))
+                .password(password)
                 .role(role)
                 .build();
         userRepository.save(user);
@@ -41,13 +50,51 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public ResponseEntity<AuthenticationResponse> login(AuthenticationRequest request) {
-        User user = userRepository.findByEmail(request.email())
+    public ResponseEntity<AuthenticationResponse> login(AuthenticationRequest request, String clientAddress) {
+        loginRateLimiter.acquire(request.email(), clientAddress);
+        User user = userRepository.loadByEmail(request.email())
                 .orElseThrow(() -> new BadCredentialsException("Invalid email or password"));
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.password(), user.getPassword())) {
             throw new BadCredentialsException("Invalid email or password");
         }
-        String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole());
-        return ResponseEntity.ok(new AuthenticationResponse(token));
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            userRepository.updatePassword(user.getId(), passwordHashingService.encode(request.password()));
+            log.info("Password hash of user with id {} was upgraded to the current cost", user.getId());
+        }
+        return ResponseEntity.ok(issueTokens(user));
+    }
+
+    @Override
+    @Transactional
+    public ResponseEntity<AuthenticationResponse> refresh(RefreshTokenRequest request) {
+        Claims claims = jwtTokenProvider.parseRefreshToken(request.refreshToken());
+        if (!revoke(claims)) {
+            throw new InvalidJwtAuthenticationException("Refresh token has already been used or revoked");
+        }
+        User user = userRepository.findById(jwtTokenProvider.getUserId(claims))
+                .orElseThrow(() -> new InvalidJwtAuthenticationException("User of JWT token not found"));
+        return ResponseEntity.ok(issueTokens(user));
+    }
+
+    @Override
+    @Transactional
+    public ResponseEntity<Void> logout(RefreshTokenRequest request) {
+        revoke(jwtTokenProvider.parseRefreshToken(request.refreshToken()));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Revokes the refresh token. Revocations of expired tokens are dropped by {@link RevokedTokenCleaner}.
+     *
+     * @return {@code false} if the token had already been revoked
+     */
+    private boolean revoke(Claims claims) {
+        return revokedTokenRepository.revoke(claims.getId(), claims.getExpiration().toInstant()) == 1;
+    }
+
+    private AuthenticationResponse issueTokens(User user) {
+        return new AuthenticationResponse(
+                jwtTokenProvider.createToken(user.getId(), user.getEmail(), user.getRole()),
+                jwtTokenProvider.createRefreshToken(user.getId(), user.getEmail()));
     }
 }
@@ -0,0 +1,114 @@
+package taskmanagementsystem.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import taskmanagementsystem.exception.TooManyRequestsException;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Limits login attempts per email and per client address with in-memory token buckets.
+ * <p>
+ * Each key starts with {@code capacity} attempts and gets one back every {@code refill-interval}.
+ * An attempt above the limit is rejected with {@link TooManyRequestsException} before any password
+ * is hashed. Buckets of keys that were not used for a while are dropped, and at most
+ * {@code tms.auth.rate-limit.max-keys} are kept. Limits are per application instance.
+ * </p>
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Limit emailLimit;
+    private final Limit addressLimit;
+    private final Cache<String, TokenBucket> buckets;
+    private final Counter throttledByEmail;
+    private final Counter throttledByAddress;
+
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${tms.auth.rate-limit.max-keys:100000}") long maxKeys,
+                            @Value("${tms.auth.rate-limit.email.capacity:5}") int emailCapacity,
+                            @Value("${tms.auth.rate-limit.email.refill-interval:PT12S}") Duration emailRefillInterval,
+                            @Value("${tms.auth.rate-limit.ip.capacity:100}") int addressCapacity,
+                            @Value("${tms.auth.rate-limit.ip.refill-interval:PT0.1S}") Duration addressRefillInterval) {
+        this.emailLimit = new Limit(emailCapacity, emailRefillInterval.toNanos());
+        this.addressLimit = new Limit(addressCapacity, addressRefillInterval.toNanos());
+        Duration idle = Duration.ofNanos(Math.max(emailLimit.timeToFill(), addressLimit.timeToFill()));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idle)
+                .build();
+        this.throttledByEmail = Counter.builder("auth.login.throttled")
+                .tag("key", "email")
+                .description("Login attempts rejected by the rate limiter")
+                .register(meterRegistry);
+        this.throttledByAddress = Counter.builder("auth.login.throttled")
+                .tag("key", "ip")
+                .description("Login attempts rejected by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes one attempt from the buckets of the client address and of the email.
+     *
+     * @throws TooManyRequestsException if either bucket is empty
+     */
+    public void acquire(String email, String clientAddress) {
+        if (clientAddress != null) {
+            consume("ip:" + clientAddress, addressLimit, throttledByAddress);
+        }
+        if (email != null) {
+            consume("email:" + email.toLowerCase(Locale.ROOT), emailLimit, throttledByEmail);
+        }
+    }
+
+    private void consume(String key, Limit limit, Counter throttled) {
+        TokenBucket bucket = buckets.get(key, ignored -> new TokenBucket(limit, System.nanoTime()));
+        long waitNanos = bucket.tryConsume(System.nanoTime());
+        if (waitNanos > 0) {
+            throttled.increment();
+            long seconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+            throw new TooManyRequestsException("Too many login attempts, try again later", Duration.ofSeconds(seconds));
+        }
+    }
+
+    private record Limit(int capacity, long refillNanos) {
+
+        long timeToFill() {
+            return capacity * refillNanos;
+        }
+    }
+
+    private static final class TokenBucket {
+
+        private final Limit limit;
+        private long tokens;
+        private long lastRefill;
+
+        TokenBucket(Limit limit, long now) {
+            this.limit = limit;
+            this.tokens = limit.capacity();
+            this.lastRefill = now;
+        }
+
+        /**
+         * @return {@code 0} if a token was taken, otherwise the time in nanoseconds until the next one is available
+         */
+        synchronized long tryConsume(long now) {
+            long refilled = (now - lastRefill) / limit.refillNanos();
+            if (refilled > 0) {
+                tokens = Math.min(limit.capacity(), tokens + refilled);
+                lastRefill = tokens == limit.capacity() ? now : lastRefill + refilled * limit.refillNanos();
+            }
+            if (tokens > 0) {
+                tokens--;
+                return 0;
+            }
+            return limit.refillNanos() - (now - lastRefill);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package taskmanagementsystem.service.auth;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagementsystem.repository.RevokedTokenRepository;
+
+import java.time.Instant;
+
+/**
+ * Drops revocations of refresh tokens that have expired anyway, every
+ * {@code tms.auth.revoked-tokens.cleanup-interval}, so refresh and logout only touch their own token.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenCleaner {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Scheduled(fixedDelayString = "${tms.auth.revoked-tokens.cleanup-interval:PT1H}",
+            initialDelayString = "${tms.auth.revoked-tokens.cleanup-interval:PT1H}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(Instant.now());
+        log.info("{} expired token revocations were deleted", deleted);
+    }
+}
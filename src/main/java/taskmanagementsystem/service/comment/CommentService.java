@@ -1,5 +1,6 @@
 package taskmanagementsystem.service.comment;
 
+import taskmanagementsystem.dto.CursorPaginatedResponse;
 import taskmanagementsystem.dto.comment.CommentCreateDto;
 import taskmanagementsystem.dto.comment.CommentDto;
 
@@ -12,4 +13,6 @@ public interface CommentService {
     void deleteComment(Long commentId);
 
     List<CommentDto> getCommentsByTaskId(Long taskId);
+
+    CursorPaginatedResponse<CommentDto> scrollComments(Long taskId, String cursor, int size);
 }
@@ -1,19 +1,31 @@
 package taskmanagementsystem.service.comment;
 
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagementsystem.config.cache.CacheNames;
+import taskmanagementsystem.config.cache.TaskCacheEvictor;
+import taskmanagementsystem.dto.CursorPaginatedResponse;
 import taskmanagementsystem.dto.comment.CommentCreateDto;
 import taskmanagementsystem.dto.comment.CommentDto;
 import taskmanagementsystem.entity.Comment;
 import taskmanagementsystem.entity.Task;
 import taskmanagementsystem.entity.User;
+import taskmanagementsystem.event.CommentAdded;
+import taskmanagementsystem.event.CommentDeleted;
+import taskmanagementsystem.event.outbox.DomainEventPublisher;
+import taskmanagementsystem.jwt.JwtPrincipal;
 import taskmanagementsystem.mapper.CommentMapper;
 import taskmanagementsystem.repository.CommentRepository;
 import taskmanagementsystem.repository.TaskRepository;
 import taskmanagementsystem.repository.UserRepository;
+import taskmanagementsystem.service.pagination.CursorCodec;
 
 import java.util.List;
 
@@ -26,18 +38,24 @@ public class CommentServiceImpl implements CommentService {
     private final UserRepository userRepository;
     private final CommentMapper commentMapper;
     private final TaskRepository taskRepository;
-
+    private final TaskCacheEvictor taskCacheEvictor;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.TASKS, key = "#commentDto.taskId()"),
+            @CacheEvict(cacheNames = CacheNames.TASK_COMMENTS, key = "#commentDto.taskId()")
+    })
     public CommentDto createComment(CommentCreateDto commentDto) {
         log.info("trying to create comment on task with id {}",commentDto.taskId());
-        User user = checkUserExist(commentDto.userId());
-        Task task = checkTaskExist(commentDto.taskId());
+        User user = userReference(commentDto.userId());
+        Task task = taskRepository.getReferenceById(commentDto.taskId());
         Comment comment = commentMapper.toComment(commentDto);
         comment.setUser(user);
         comment.setTask(task);
         commentRepository.save(comment);
+        domainEventPublisher.publish(new CommentAdded(task.getId(), comment.getId(), user.getId()));
         log.info("comment to task with id {} was created",commentDto.taskId());
         return commentMapper.toCommentDto(comment);
     }
@@ -49,24 +67,52 @@ public class CommentServiceImpl implements CommentService {
        Comment comment = commentRepository.findById(commentId).orElseThrow(
                () -> new EntityNotFoundException("comment with id %s not found".formatted(commentId)));
        commentRepository.delete(comment);
+       Long taskId = comment.getTask().getId();
+       taskCacheEvictor.evictTask(taskId);
+       taskCacheEvictor.evictComments(taskId);
+       domainEventPublisher.publish(new CommentDeleted(taskId, commentId));
     }
 
     @Override
+    @Transactional
+    @Cacheable(cacheNames = CacheNames.TASK_COMMENTS, key = "#taskId")
     public List<CommentDto> getCommentsByTaskId(Long taskId) {
         log.info("Trying to get task comments with task id {}", taskId);
-        Task task = checkTaskExist(taskId);
-        return task.getComments().stream()
+        checkTaskIdExist(taskId);
+        return commentRepository.findByTaskIdOrderById(taskId).stream()
+                .map(commentMapper::toCommentDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<CommentDto> scrollComments(Long taskId, String cursor, int size) {
+        log.info("Trying to scroll comments of task with id {} after cursor {}", taskId, cursor);
+        Long lastSeenId = CursorCodec.decode(cursor);
+        checkTaskIdExist(taskId);
+        List<Comment> comments = commentRepository.findByTaskIdAndIdGreaterThanOrderById(
+                taskId, lastSeenId != null ? lastSeenId : 0L, PageRequest.of(0, size + 1));
+        boolean last = comments.size() <= size;
+        List<Comment> pageComments = last ? comments : comments.subList(0, size);
+        List<CommentDto> commentDtos = pageComments.stream()
                 .map(commentMapper::toCommentDto)
                 .toList();
+        String nextCursor = last ? null : CursorCodec.encode(pageComments.get(pageComments.size() - 1).getId());
+        return new CursorPaginatedResponse<>(commentDtos, size, nextCursor, last);
     }
 
-    private User checkUserExist(Long userId) {
-        return userRepository.findById(userId).orElseThrow(
-                () -> new EntityNotFoundException("User with id %s not found".formatted(userId)));
+    /**
+     * Returns the user a comment is written by without loading it. Comments can only be written as the
+     * authenticated user; a task that does not exist is reported by the foreign key of the inserted comment.
+     */
+    private User userReference(Long userId) {
+        JwtPrincipal.actingAs(userId);
+        return userRepository.getReferenceById(userId);
     }
 
-    private Task checkTaskExist(Long taskId) {
-        return taskRepository.findById(taskId).orElseThrow(
-                () -> new EntityNotFoundException("Task with id %S not found".formatted(taskId)));
+    private void checkTaskIdExist(Long taskId) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new EntityNotFoundException("Task with id %S not found".formatted(taskId));
+        }
     }
 }
@@ -0,0 +1,176 @@
+package taskmanagementsystem.service.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.User;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Inverted index kept in memory, for tests and local runs without Postgres.
+ * <p>
+ * Only tasks changed since start-up are indexed, from the events this instance dispatches, so it suits a
+ * single instance. Only plain words are understood:
+ * every word of the query must occur in the task or one of its comments. Title words weigh more
+ * than description words, which weigh more than comment words.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "tms.search.engine", havingValue = "memory")
+public class InMemoryTaskSearchIndex implements TaskSearchIndex {
+
+    private static final int TITLE_WEIGHT = 4;
+    private static final int DESCRIPTION_WEIGHT = 2;
+    private static final int COMMENT_WEIGHT = 1;
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public TaskSearchHits search(String query, User user, int page, int size) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return new TaskSearchHits(List.of(), 0);
+        }
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            for (String term : terms) {
+                Set<Long> taskIds = postings.getOrDefault(term, Set.of());
+                if (candidates == null) {
+                    candidates = new HashSet<>(taskIds);
+                } else {
+                    candidates.retainAll(taskIds);
+                }
+            }
+            List<Long> matches = candidates.stream()
+                    .filter(taskId -> documents.get(taskId).isVisibleTo(user))
+                    .sorted(Comparator.comparingDouble((Long taskId) -> -documents.get(taskId).rank(terms))
+                            .thenComparing(Comparator.naturalOrder()))
+                    .toList();
+            int from = (int) Math.min((long) page * size, matches.size());
+            int to = Math.min(from + size, matches.size());
+            return new TaskSearchHits(matches.subList(from, to), matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void indexTask(Long taskId, String title, String description, Long authorId, Long assigneeId) {
+        update(taskId, document -> {
+            document.title = title;
+            document.description = description;
+            document.authorId = authorId;
+            document.assigneeId = assigneeId;
+        });
+    }
+
+    @Override
+    public void removeTask(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            Document document = documents.remove(taskId);
+            if (document != null) {
+                unlink(taskId, document.terms);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void indexComment(Long taskId, Long commentId, String text) {
+        update(taskId, document -> document.comments.put(commentId, text));
+    }
+
+    @Override
+    public void removeComment(Long taskId, Long commentId) {
+        update(taskId, document -> document.comments.remove(commentId));
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+
+    private void update(Long taskId, Consumer<Document> change) {
+        lock.writeLock().lock();
+        try {
+            Document document = documents.computeIfAbsent(taskId, id -> new Document());
+            unlink(taskId, document.terms);
+            change.accept(document);
+            document.reindex();
+            document.terms.keySet().forEach(term -> postings.computeIfAbsent(term, t -> new HashSet<>()).add(taskId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unlink(Long taskId, Map<String, Integer> terms) {
+        for (String term : terms.keySet()) {
+            Set<Long> taskIds = postings.get(term);
+            if (taskIds != null) {
+                taskIds.remove(taskId);
+                if (taskIds.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static class Document {
+
+        private String title;
+        private String description;
+        private Long authorId;
+        private Long assigneeId;
+        private final Map<Long, String> comments = new HashMap<>();
+        private final Map<String, Integer> terms = new HashMap<>();
+        private int length;
+
+        void reindex() {
+            terms.clear();
+            length = 0;
+            add(title, TITLE_WEIGHT);
+            add(description, DESCRIPTION_WEIGHT);
+            comments.values().forEach(text -> add(text, COMMENT_WEIGHT));
+        }
+
+        boolean isVisibleTo(User user) {
+            Long ownerId = user.getRole() == Role.ADMIN ? authorId : assigneeId;
+            return user.getId().equals(ownerId);
+        }
+
+        double rank(List<String> queryTerms) {
+            double score = 0;
+            for (String term : queryTerms) {
+                score += terms.getOrDefault(term, 0);
+            }
+            return score / (1 + Math.log1p(length));
+        }
+
+        private void add(String text, int weight) {
+            for (String term : tokenize(text)) {
+                terms.merge(term, weight, Integer::sum);
+                length++;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package taskmanagementsystem.service.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.User;
+
+import java.util.List;
+
+/**
+ * Searches the {@code search_vector} columns of tasks and comments through their GIN indexes.
+ * <p>
+ * The query uses web search syntax: words are combined with AND, {@code "quoted phrases"},
+ * {@code or} and {@code -excluded} words are supported. A task is ranked by its own match plus
+ * half the rank of each matching comment.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tms.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresTaskSearchIndex implements TaskSearchIndex {
+
+    private static final String MATCHES = """
+            WITH q AS (SELECT websearch_to_tsquery('simple', :query) AS query),
+            matches AS (
+                SELECT t.id AS task_id, ts_rank(t.search_vector, q.query) AS rank
+                FROM tasks t, q
+                WHERE t.search_vector @@ q.query
+                UNION ALL
+                SELECT c.task_id, ts_rank(c.search_vector, q.query) * 0.5
+                FROM comments c, q
+                WHERE c.search_vector @@ q.query
+            ),
+            visible AS (
+                SELECT m.task_id, sum(m.rank) AS rank
+                FROM matches m
+                JOIN tasks t ON t.id = m.task_id
+                WHERE %s = :userId
+                GROUP BY m.task_id
+            )
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public TaskSearchHits search(String query, User user, int page, int size) {
+        String matches = MATCHES.formatted(user.getRole() == Role.ADMIN ? "t.author_id" : "t.assignee_id");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("userId", user.getId())
+                .addValue("limit", size)
+                .addValue("offset", (long) page * size);
+        List<Long> taskIds = jdbcTemplate.queryForList(
+                matches + "SELECT task_id FROM visible ORDER BY rank DESC, task_id LIMIT :limit OFFSET :offset",
+                params,
+                Long.class);
+        if (page == 0 && taskIds.size() < size) {
+            return new TaskSearchHits(taskIds, taskIds.size());
+        }
+        Long total = jdbcTemplate.queryForObject(matches + "SELECT count(*) FROM visible", params, Long.class);
+        return new TaskSearchHits(taskIds, total != null ? total : 0);
+    }
+}
@@ -0,0 +1,12 @@
+package taskmanagementsystem.service.search;
+
+import java.util.List;
+
+/**
+ * One page of search results.
+ *
+ * @param taskIds IDs of the matching tasks, best match first
+ * @param total   number of matching tasks on all pages
+ */
+public record TaskSearchHits(List<Long> taskIds, long total) {
+}
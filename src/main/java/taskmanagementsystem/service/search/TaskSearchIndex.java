@@ -0,0 +1,29 @@
+package taskmanagementsystem.service.search;
+
+import taskmanagementsystem.entity.User;
+
+/**
+ * Keyword index over task titles, descriptions and comments.
+ * <p>
+ * Results are limited to the tasks the user may see: admins search the tasks they authored,
+ * users search the tasks assigned to them. The {@code index*} and {@code remove*} callbacks are invoked by
+ * {@link TaskSearchIndexUpdater} for every domain event; implementations whose index is maintained by the
+ * database ignore them.
+ * </p>
+ */
+public interface TaskSearchIndex {
+
+    TaskSearchHits search(String query, User user, int page, int size);
+
+    default void indexTask(Long taskId, String title, String description, Long authorId, Long assigneeId) {
+    }
+
+    default void removeTask(Long taskId) {
+    }
+
+    default void indexComment(Long taskId, Long commentId, String text) {
+    }
+
+    default void removeComment(Long taskId, Long commentId) {
+    }
+}
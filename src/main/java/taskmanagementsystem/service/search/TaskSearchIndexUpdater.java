@@ -0,0 +1,54 @@
+package taskmanagementsystem.service.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import taskmanagementsystem.entity.Task;
+import taskmanagementsystem.entity.User;
+import taskmanagementsystem.event.CommentAdded;
+import taskmanagementsystem.event.CommentDeleted;
+import taskmanagementsystem.event.DomainEvent;
+import taskmanagementsystem.event.DomainEventListener;
+import taskmanagementsystem.event.TaskDeleted;
+import taskmanagementsystem.repository.CommentRepository;
+import taskmanagementsystem.repository.TaskRepository;
+
+/**
+ * Keeps the {@link InMemoryTaskSearchIndex} in step with the domain events, so that every write path,
+ * including bulk and native statements, reaches the index. A changed task is read again and indexed as
+ * it is now, which also makes redelivered events harmless.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tms.search.engine", havingValue = "memory")
+public class TaskSearchIndexUpdater implements DomainEventListener {
+
+    private final TaskSearchIndex searchIndex;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+
+    @Override
+    public void onEvent(Long eventId, DomainEvent event) {
+        if (event instanceof TaskDeleted) {
+            searchIndex.removeTask(event.taskId());
+        } else if (event instanceof CommentAdded added) {
+            commentRepository.findById(added.commentId()).ifPresent(
+                    comment -> searchIndex.indexComment(event.taskId(), comment.getId(), comment.getText()));
+        } else if (event instanceof CommentDeleted deleted) {
+            searchIndex.removeComment(event.taskId(), deleted.commentId());
+        } else {
+            taskRepository.findById(event.taskId()).ifPresentOrElse(
+                    this::indexTask,
+                    () -> searchIndex.removeTask(event.taskId()));
+        }
+    }
+
+    private void indexTask(Task task) {
+        searchIndex.indexTask(task.getId(), task.getTitle(), task.getDescription(),
+                idOf(task.getAuthor()), idOf(task.getAssignee()));
+    }
+
+    private static Long idOf(User user) {
+        return user != null ? user.getId() : null;
+    }
+}
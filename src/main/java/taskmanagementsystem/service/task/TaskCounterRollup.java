@@ -0,0 +1,42 @@
+package taskmanagementsystem.service.task;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import taskmanagementsystem.repository.TaskCounterDeltaRepository;
+
+/**
+ * Folds the counter deltas appended by task writes into {@code task_counters} every
+ * {@code tms.stats.rollup-interval}, {@code tms.stats.rollup-batch-size} deltas per transaction.
+ * <p>
+ * Statistics add the pending deltas of the user, so the interval only bounds how many rows a
+ * statistics request reads, not how current the statistics are.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TaskCounterRollup {
+
+    private final TaskCounterDeltaRepository taskCounterDeltaRepository;
+    private final int batchSize;
+
+    public TaskCounterRollup(TaskCounterDeltaRepository taskCounterDeltaRepository,
+                             @Value("${tms.stats.rollup-batch-size:5000}") int batchSize) {
+        this.taskCounterDeltaRepository = taskCounterDeltaRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${tms.stats.rollup-interval:PT10S}")
+    public void rollUp() {
+        long rolledUp = 0;
+        int batch;
+        do {
+            batch = taskCounterDeltaRepository.rollUp(batchSize);
+            rolledUp += batch;
+        } while (batch == batchSize);
+        if (rolledUp > 0) {
+            log.debug("{} task counter deltas were rolled up", rolledUp);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package taskmanagementsystem.service.task;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface TaskEventService {
+
+    SseEmitter subscribe(Long userId, Long lastEventId);
+}
@@ -0,0 +1,24 @@
+package taskmanagementsystem.service.task;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import taskmanagementsystem.entity.User;
+import taskmanagementsystem.event.stream.TaskEventBroadcaster;
+import taskmanagementsystem.jwt.JwtPrincipal;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskEventServiceImpl implements TaskEventService {
+
+    private final TaskEventBroadcaster taskEventBroadcaster;
+
+    @Override
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        log.info("Trying to open task event stream for user with id {}", userId);
+        User user = JwtPrincipal.actingAs(userId).toUser();
+        return taskEventBroadcaster.subscribe(user, lastEventId);
+    }
+}
@@ -0,0 +1,10 @@
+package taskmanagementsystem.service.task;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import taskmanagementsystem.dto.task.TaskExportFormat;
+import taskmanagementsystem.dto.task.TaskFilterDto;
+
+public interface TaskExportService {
+
+    StreamingResponseBody exportTasks(Long userId, TaskFilterDto filterDto, TaskExportFormat format);
+}
@@ -0,0 +1,112 @@
+package taskmanagementsystem.service.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import taskmanagementsystem.dto.task.TaskExportDto;
+import taskmanagementsystem.dto.task.TaskExportFormat;
+import taskmanagementsystem.dto.task.TaskFilterDto;
+import taskmanagementsystem.entity.Task;
+import taskmanagementsystem.entity.User;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.mapper.TaskMapper;
+import taskmanagementsystem.repository.TaskRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streams every task visible to a user straight from a database cursor into the response.
+ * <p>
+ * Tasks are read {@value #FETCH_SIZE} rows at a time and the persistence context is cleared after
+ * each chunk, so memory use does not depend on the number of exported tasks.
+ * </p>
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final int FETCH_SIZE = 500;
+    private static final String CSV_HEADER = "id,title,description,status,priority,authorId,assigneeId";
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public StreamingResponseBody exportTasks(Long userId, TaskFilterDto filterDto, TaskExportFormat format) {
+        log.info("Trying to export tasks with filter {} as {}", filterDto, format);
+        User user = JwtPrincipal.actingAs(userId).toUser();
+        Specification<Task> spec = TaskSpecifications.visibleTo(user, filterDto);
+        return outputStream -> {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            Long exported = transactionTemplate.execute(status -> writeTasks(spec, format, outputStream));
+            log.info("{} tasks of user with id {} were exported", exported, userId);
+        };
+    }
+
+    private long writeTasks(Specification<Task> spec, TaskExportFormat format, OutputStream outputStream) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long count = 0;
+        try (Stream<Task> tasks = taskRepository.streamAll(spec, FETCH_SIZE)) {
+            if (format == TaskExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                TaskExportDto row = taskMapper.toTaskExportDto(iterator.next());
+                writer.write(format == TaskExportFormat.CSV ? toCsvLine(row) : objectMapper.writeValueAsString(row));
+                writer.write('\n');
+                count++;
+                if (count == 1 || count % FETCH_SIZE == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private String toCsvLine(TaskExportDto row) {
+        return Stream.of(row.id(), row.title(), row.description(), row.status(), row.priority(),
+                        row.authorId(), row.assigneeId())
+                .map(this::toCsvField)
+                .collect(Collectors.joining(","));
+    }
+
+    private String toCsvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String field = value.toString();
+        if (field.contains(",") || field.contains("\"") || field.contains("\n") || field.contains("\r")) {
+            return "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+        return field;
+    }
+}
@@ -0,0 +1,10 @@
+package taskmanagementsystem.service.task;
+
+public interface TaskPurgeService {
+
+    /**
+     * Starts deleting every task the user authored, together with their comments, in the background.
+     * Only the authenticated admin can purge their own tasks.
+     */
+    void purgeTasks(Long userId);
+}
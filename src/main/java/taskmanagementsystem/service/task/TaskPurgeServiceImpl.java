@@ -0,0 +1,96 @@
+package taskmanagementsystem.service.task;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import taskmanagementsystem.config.cache.TaskCacheEvictor;
+import taskmanagementsystem.dto.task.TaskOwnersDto;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.event.TaskDeleted;
+import taskmanagementsystem.event.outbox.DomainEventPublisher;
+import taskmanagementsystem.exception.UserRoleException;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.repository.TaskRepository;
+
+import java.util.List;
+
+/**
+ * Deletes all tasks of an author in chunks of {@code tms.purge.chunk-size}, each in its own transaction.
+ * <p>
+ * Deleting a long history in one transaction would lock every task and comment of the author until it
+ * ends. Here each chunk commits on its own, so concurrent requests only wait for the chunk they touch,
+ * and a purge that stops half-way can simply be started again. Comments are removed by the database
+ * cascade, so a chunk is one DELETE plus the outbox rows of its {@link TaskDeleted} events.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TaskPurgeServiceImpl implements TaskPurgeService {
+
+    private final TaskRepository taskRepository;
+    private final TaskCacheEvictor taskCacheEvictor;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final Counter purged;
+    private final int chunkSize;
+
+    public TaskPurgeServiceImpl(TaskRepository taskRepository,
+                                TaskCacheEvictor taskCacheEvictor,
+                                DomainEventPublisher domainEventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                MeterRegistry meterRegistry,
+                                @Value("${tms.purge.chunk-size:500}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.taskCacheEvictor = taskCacheEvictor;
+        this.domainEventPublisher = domainEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.purged = Counter.builder("tasks.purged")
+                .description("Tasks deleted by purges of a user's tasks")
+                .register(meterRegistry);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void purgeTasks(Long userId) {
+        log.info("Trying to purge tasks of user with id {}", userId);
+        JwtPrincipal principal = JwtPrincipal.actingAs(userId);
+        if (!principal.role().equals(Role.ADMIN)) {
+            throw new UserRoleException("Only admin can create or delete a task");
+        }
+        taskExecutor.execute(() -> purge(userId));
+    }
+
+    private void purge(Long userId) {
+        long deleted = 0;
+        try {
+            int chunk;
+            do {
+                chunk = transactionTemplate.execute(status -> deleteChunk(userId));
+                deleted += chunk;
+                purged.increment(chunk);
+            } while (chunk == chunkSize);
+            log.info("{} tasks of user with id {} were purged", deleted, userId);
+        } catch (RuntimeException e) {
+            log.error("Purge of tasks of user with id {} stopped after {} tasks", userId, deleted, e);
+        }
+    }
+
+    private int deleteChunk(Long userId) {
+        List<TaskOwnersDto> deleted = taskRepository.deleteByAuthorIdReturningOwners(userId, chunkSize);
+        deleted.forEach(owners -> {
+            taskCacheEvictor.evictTask(owners.taskId());
+            taskCacheEvictor.evictComments(owners.taskId());
+            domainEventPublisher.publish(new TaskDeleted(owners.taskId(), owners.authorId(), owners.assigneeId()));
+        });
+        return deleted.size();
+    }
+}
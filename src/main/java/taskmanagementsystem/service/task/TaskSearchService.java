@@ -0,0 +1,9 @@
+package taskmanagementsystem.service.task;
+
+import taskmanagementsystem.dto.PaginatedResponse;
+import taskmanagementsystem.dto.task.TaskDto;
+
+public interface TaskSearchService {
+
+    PaginatedResponse<TaskDto> searchTasks(Long userId, String query, int page, int size);
+}
@@ -0,0 +1,65 @@
+package taskmanagementsystem.service.task;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagementsystem.dto.PaginatedResponse;
+import taskmanagementsystem.dto.task.TaskDto;
+import taskmanagementsystem.entity.Task;
+import taskmanagementsystem.entity.User;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.mapper.TaskMapper;
+import taskmanagementsystem.repository.TaskRepository;
+import taskmanagementsystem.service.search.TaskSearchHits;
+import taskmanagementsystem.service.search.TaskSearchIndex;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranks tasks with the configured {@link TaskSearchIndex} and loads the tasks of the requested page.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponse<TaskDto> searchTasks(Long userId, String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        log.info("Trying to search tasks of user with id {}", userId);
+        User user = JwtPrincipal.actingAs(userId).toUser();
+        TaskSearchHits hits = taskSearchIndex.search(query, user, page, size);
+        Map<Long, Task> tasks = hits.taskIds().isEmpty()
+                ? Map.of()
+                : taskRepository.findAllWithCommentsByIdIn(hits.taskIds()).stream()
+                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<TaskDto> content = hits.taskIds().stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .map(taskMapper::toTaskDto)
+                .toList();
+        log.info("{} tasks found", hits.total());
+        int totalPages = (int) ((hits.total() + size - 1) / size);
+        return new PaginatedResponse<>(
+                content,
+                page,
+                size,
+                hits.total(),
+                totalPages,
+                page == 0,
+                page + 1 >= totalPages
+        );
+    }
+}
@@ -1,8 +1,12 @@
 package taskmanagementsystem.service.task;
 
 import org.springframework.data.domain.Page;
+import taskmanagementsystem.dto.CursorPaginatedResponse;
 import taskmanagementsystem.dto.PaginatedResponse;
 import taskmanagementsystem.dto.comment.CommentDto;
+import taskmanagementsystem.dto.task.TaskBatchDeleteDto;
+import taskmanagementsystem.dto.task.TaskBatchResponse;
+import taskmanagementsystem.dto.task.TaskBatchStatusUpdateDto;
 import taskmanagementsystem.dto.task.TaskCreateDto;
 import taskmanagementsystem.dto.task.TaskDto;
 import taskmanagementsystem.dto.task.TaskFilterDto;
@@ -14,11 +18,32 @@ public interface TaskService {
 
     TaskDto createTask(TaskCreateDto taskDto);
 
-    TaskDto updateTask(Long taskId, TaskUpdateDto taskDto);
+    TaskBatchResponse createTasks(List<TaskCreateDto> taskDtos);
+
+    TaskBatchResponse updateTasksStatus(TaskBatchStatusUpdateDto batchDto);
+
+    TaskBatchResponse deleteTasks(TaskBatchDeleteDto batchDto);
+
+    TaskDto updateTask(Long taskId, TaskUpdateDto taskDto, Long expectedVersion);
+
+    Long patchTask(Long taskId, TaskUpdateDto taskDto, Long expectedVersion);
 
     void deleteTask(Long taskId, Long userId);
 
     TaskDto getTask(Long id);
 
-    PaginatedResponse<TaskDto> getAllTasks(Long userId, TaskFilterDto filterDto, int page, int size);
+    /**
+     * Returns the task with its comment count and only its latest comments.
+     */
+    TaskDto getTaskPreview(Long id, int latestComments);
+
+    /**
+     * @param latestComments the number of latest comments to include per task, or {@code null} for all of them
+     */
+    PaginatedResponse<TaskDto> getAllTasks(Long userId, TaskFilterDto filterDto, int page, int size, Integer latestComments);
+
+    /**
+     * @param latestComments the number of latest comments to include per task, or {@code null} for all of them
+     */
+    CursorPaginatedResponse<TaskDto> scrollTasks(Long userId, TaskFilterDto filterDto, String cursor, int size, Integer latestComments);
 }
\ No newline at end of file
@@ -1,39 +1,82 @@
 package taskmanagementsystem.service.task;
 
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.persistence.criteria.Predicate;
-import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagementsystem.config.cache.CacheNames;
+import taskmanagementsystem.config.cache.TaskCacheEvictor;
+import taskmanagementsystem.dto.CursorPaginatedResponse;
 import taskmanagementsystem.dto.PaginatedResponse;
+import taskmanagementsystem.dto.comment.CommentDto;
+import taskmanagementsystem.dto.task.TaskBatchDeleteDto;
+import taskmanagementsystem.dto.task.TaskBatchItemResult;
+import taskmanagementsystem.dto.task.TaskBatchItemStatus;
+import taskmanagementsystem.dto.task.TaskBatchResponse;
+import taskmanagementsystem.dto.task.TaskBatchStatusUpdateDto;
+import taskmanagementsystem.dto.task.TaskCommentCountDto;
 import taskmanagementsystem.dto.task.TaskCreateDto;
 import taskmanagementsystem.dto.task.TaskDto;
 import taskmanagementsystem.dto.task.TaskFilterDto;
+import taskmanagementsystem.dto.task.TaskOwnersDto;
 import taskmanagementsystem.dto.task.TaskUpdateDto;
+import taskmanagementsystem.dto.task.TaskUpdateResultDto;
 import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.Status;
 import taskmanagementsystem.entity.Task;
 import taskmanagementsystem.entity.User;
+import taskmanagementsystem.event.TaskCreated;
+import taskmanagementsystem.event.TaskDeleted;
+import taskmanagementsystem.event.TaskUpdated;
+import taskmanagementsystem.event.outbox.DomainEventPublisher;
+import taskmanagementsystem.exception.PreconditionFailedException;
 import taskmanagementsystem.exception.UserRoleException;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.mapper.CommentMapper;
 import taskmanagementsystem.mapper.TaskMapper;
+import taskmanagementsystem.repository.CommentRepository;
 import taskmanagementsystem.repository.TaskRepository;
 import taskmanagementsystem.repository.UserRepository;
+import taskmanagementsystem.service.pagination.CursorCodec;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_BATCH_SIZE = 10_000;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final TaskMapper taskMapper;
+    private final TaskCacheEvictor taskCacheEvictor;
+    private final DomainEventPublisher domainEventPublisher;
+    private final CommentRepository commentRepository;
+    private final CommentMapper commentMapper;
+    private final Validator validator;
 
     @Override
     @Transactional
@@ -42,45 +85,181 @@ public class TaskServiceImpl implements TaskService {
         User user = checkUser(taskDto.authorId());
         checkUserRole(user);
         Task task = taskMapper.toTask(taskDto);
-        task.setAuthor(user);
+        task.setAuthor(userRepository.getReferenceById(user.getId()));
         if (taskDto.assigneeId() != null) {
-            User assignee = checkAssigneeExist(taskDto.assigneeId());
-            task.setAssignee(assignee);
+            task.setAssignee(userRepository.getReferenceById(taskDto.assigneeId()));
         }
         taskRepository.save(task);
+        domainEventPublisher.publish(new TaskCreated(task.getId(), user.getId(), taskDto.assigneeId()));
         log.info("Task created");
         return taskMapper.toTaskDto(task);
     }
 
     @Override
     @Transactional
-    public TaskDto updateTask(Long taskId, TaskUpdateDto taskDto) {
+    public TaskBatchResponse createTasks(List<TaskCreateDto> taskDtos) {
+        log.info("Trying to create {} tasks", taskDtos.size());
+        checkBatchSize(taskDtos.size());
+        JwtPrincipal principal = JwtPrincipal.current().orElseThrow(
+                () -> new UserRoleException("Only admin can create or delete a task"));
+        checkUserRole(principal.toUser());
+        User author = userRepository.getReferenceById(principal.userId());
+        Map<Long, User> assignees = findUsers(taskDtos.stream().map(TaskCreateDto::assigneeId));
+        Set<String> takenTitles = new HashSet<>(taskRepository.findExistingTitles(taskDtos.stream()
+                .map(TaskCreateDto::title)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet())));
+
+        TaskBatchItemResult[] results = new TaskBatchItemResult[taskDtos.size()];
+        Task[] tasks = new Task[taskDtos.size()];
+        for (int i = 0; i < taskDtos.size(); i++) {
+            TaskCreateDto taskDto = taskDtos.get(i);
+            String error = validateNewTask(taskDto, principal, assignees, takenTitles);
+            if (error != null) {
+                results[i] = TaskBatchItemResult.failure(i, null, error);
+                continue;
+            }
+            takenTitles.add(taskDto.title());
+            Task task = taskMapper.toTask(taskDto);
+            task.setAuthor(author);
+            if (taskDto.assigneeId() != null) {
+                task.setAssignee(assignees.get(taskDto.assigneeId()));
+            }
+            tasks[i] = task;
+        }
+        taskRepository.saveAll(Arrays.stream(tasks)
+                .filter(Objects::nonNull)
+                .toList());
+        for (int i = 0; i < tasks.length; i++) {
+            if (tasks[i] != null) {
+                results[i] = TaskBatchItemResult.success(i, tasks[i].getId(), TaskBatchItemStatus.CREATED);
+                domainEventPublisher.publish(new TaskCreated(
+                        tasks[i].getId(), taskDtos.get(i).authorId(), taskDtos.get(i).assigneeId()));
+            }
+        }
+        TaskBatchResponse response = TaskBatchResponse.of(List.of(results));
+        log.info("{} tasks created, {} failed", response.succeeded(), response.failed());
+        return response;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.TASKS, key = "#taskId")
+    public TaskDto updateTask(Long taskId, TaskUpdateDto taskDto, Long expectedVersion) {
         log.info("Trying to update task with id {}", taskId);
         User user = checkUser(taskDto.userId());
-        Task task = checkTaskExist(taskId);
         boolean isAdmin = user.getRole().equals(Role.ADMIN);
-        boolean isAssignee = user.getRole().equals(Role.USER) && task.getAssignee().equals(user);
-        if (!isAdmin && !isAssignee) {
-            throw new UserRoleException("User does not have permission to update this task");
-        }
-        updateTaskFields(task, taskDto, isAdmin);
-        taskRepository.save(task);
+        TaskUpdateResultDto result = updateFields(taskId, taskDto, user, isAdmin, expectedVersion);
+        domainEventPublisher.publish(new TaskUpdated(taskId, result.previousAssigneeId()));
         log.info("Task with id {} was updated", taskId);
+        Task task = taskRepository.findWithCommentsById(taskId).orElseThrow(
+                () -> new EntityNotFoundException("Task with id %s not found".formatted(taskId)));
         return taskMapper.toTaskDto(task);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.TASKS, key = "#taskId")
+    public Long patchTask(Long taskId, TaskUpdateDto taskDto, Long expectedVersion) {
+        log.info("Trying to patch task with id {}", taskId);
+        User user = checkUser(taskDto.userId());
+        boolean isAdmin = user.getRole().equals(Role.ADMIN);
+        if (isStatusOnly(taskDto)) {
+            return patchStatus(taskId, taskDto.status(), user, isAdmin, expectedVersion);
+        }
+        TaskUpdateResultDto result = updateFields(taskId, taskDto, user, isAdmin, expectedVersion);
+        domainEventPublisher.publish(new TaskUpdated(taskId, result.previousAssigneeId()));
+        log.info("Task with id {} was patched", taskId);
+        return result.version();
+    }
+
+    @Override
+    @Transactional
+    public TaskBatchResponse updateTasksStatus(TaskBatchStatusUpdateDto batchDto) {
+        log.info("Trying to update status of {} tasks", batchDto.taskIds().size());
+        checkBatchSize(batchDto.taskIds().size());
+        User user = checkUser(batchDto.userId());
+        boolean isAdmin = user.getRole().equals(Role.ADMIN);
+        Map<Long, Task> tasks = taskRepository.findAllById(batchDto.taskIds()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskBatchItemResult> results = new ArrayList<>(batchDto.taskIds().size());
+        Set<Long> permittedIds = new HashSet<>();
+        for (int i = 0; i < batchDto.taskIds().size(); i++) {
+            Long taskId = batchDto.taskIds().get(i);
+            Task task = tasks.get(taskId);
+            if (task == null) {
+                results.add(TaskBatchItemResult.failure(i, taskId, "Task with id %s not found".formatted(taskId)));
+            } else if (!isAdmin && !isAssignee(task, user)) {
+                results.add(TaskBatchItemResult.failure(i, taskId, "User does not have permission to update this task"));
+            } else {
+                permittedIds.add(taskId);
+                results.add(TaskBatchItemResult.success(i, taskId, TaskBatchItemStatus.UPDATED));
+            }
+        }
+        if (!permittedIds.isEmpty()) {
+            taskRepository.updateStatusByIdIn(permittedIds, batchDto.status());
+            permittedIds.forEach(taskId -> {
+                taskCacheEvictor.evictTask(taskId);
+                domainEventPublisher.publish(new TaskUpdated(taskId, null));
+            });
+        }
+        TaskBatchResponse response = TaskBatchResponse.of(results);
+        log.info("{} tasks updated, {} failed", response.succeeded(), response.failed());
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public TaskBatchResponse deleteTasks(TaskBatchDeleteDto batchDto) {
+        log.info("Trying to delete {} tasks", batchDto.taskIds().size());
+        checkBatchSize(batchDto.taskIds().size());
+        User user = checkUser(batchDto.userId());
+        checkUserRole(user);
+        Map<Long, TaskOwnersDto> existing = taskRepository.findOwnersByIdIn(batchDto.taskIds()).stream()
+                .collect(Collectors.toMap(TaskOwnersDto::taskId, Function.identity()));
+
+        List<TaskBatchItemResult> results = new ArrayList<>(batchDto.taskIds().size());
+        for (int i = 0; i < batchDto.taskIds().size(); i++) {
+            Long taskId = batchDto.taskIds().get(i);
+            if (existing.containsKey(taskId)) {
+                results.add(TaskBatchItemResult.success(i, taskId, TaskBatchItemStatus.DELETED));
+            } else {
+                results.add(TaskBatchItemResult.failure(i, taskId, "Task with id %s not found".formatted(taskId)));
+            }
+        }
+        if (!existing.isEmpty()) {
+            taskRepository.deleteByIdIn(existing.keySet());
+            existing.values().forEach(owners -> {
+                taskCacheEvictor.evictTask(owners.taskId());
+                taskCacheEvictor.evictComments(owners.taskId());
+                domainEventPublisher.publish(new TaskDeleted(owners.taskId(), owners.authorId(), owners.assigneeId()));
+            });
+        }
+        TaskBatchResponse response = TaskBatchResponse.of(results);
+        log.info("{} tasks deleted, {} failed", response.succeeded(), response.failed());
+        return response;
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.TASKS, key = "#taskId"),
+            @CacheEvict(cacheNames = CacheNames.TASK_COMMENTS, key = "#taskId")
+    })
     public void deleteTask(Long userId, Long taskId) {
         log.info("Trying to delete task with id {}", taskId);
         User user = checkUser(userId);
         checkUserRole(user);
-        Task task = checkTaskExist(taskId);
-        taskRepository.delete(task);
+        TaskOwnersDto owners = taskRepository.deleteReturningOwners(taskId).orElseThrow(
+                () -> new EntityNotFoundException("Task with id %S not found".formatted(taskId)));
+        domainEventPublisher.publish(new TaskDeleted(taskId, owners.authorId(), owners.assigneeId()));
         log.info("Task with id {} was deleted", taskId);
     }
 
     @Override
+    @Transactional
+    @Cacheable(cacheNames = CacheNames.TASKS, key = "#id")
     public TaskDto getTask(Long id) {
         log.info("Trying to get task with id {}", id);
         Task task = checkTaskExist(id);
@@ -89,14 +268,24 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    public PaginatedResponse<TaskDto> getAllTasks(Long userId, TaskFilterDto filterDto, int page, int size) {
+    @Transactional(readOnly = true)
+    public TaskDto getTaskPreview(Long id, int latestComments) {
+        log.info("Trying to get task with id {} and its {} latest comments", id, latestComments);
+        Task task = checkTaskExist(id);
+        log.info("Task with id {} was found", id);
+        return toTaskPreviews(List.of(task), latestComments).get(0);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponse<TaskDto> getAllTasks(Long userId, TaskFilterDto filterDto, int page, int size, Integer latestComments) {
         log.info("Trying to get tasks with filter {}", filterDto);
         User user = checkUser(userId);
-        Specification<Task> spec = buildSpecification(user, filterDto);
+        Specification<Task> spec = TaskSpecifications.visibleTo(user, filterDto);
         Pageable pageable = PageRequest.of(page, size);
         Page<Task> tasksPage = taskRepository.findAll(spec, pageable);
         log.info("Tasks found");
-        List<TaskDto> taskDtos = tasksPage.map(taskMapper::toTaskDto).getContent();
+        List<TaskDto> taskDtos = toTaskDtos(tasksPage.getContent(), latestComments);
         return new PaginatedResponse<>(
                 taskDtos,
                 tasksPage.getNumber(),
@@ -108,14 +297,35 @@ public class TaskServiceImpl implements TaskService {
         );
     }
 
-    private User checkUser(Long userId) {
-        return userRepository.findById(userId).orElseThrow(
-                () -> new EntityNotFoundException("User with id %s not found".formatted(userId)));
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<TaskDto> scrollTasks(Long userId, TaskFilterDto filterDto, String cursor, int size, Integer latestComments) {
+        log.info("Trying to scroll tasks with filter {} after cursor {}", filterDto, cursor);
+        User user = checkUser(userId);
+        Long lastSeenId = CursorCodec.decode(cursor);
+        Specification<Task> spec = TaskSpecifications.visibleTo(user, filterDto);
+        if (lastSeenId != null) {
+            spec = spec.and((root, query, criteriaBuilder) -> criteriaBuilder.greaterThan(root.<Long>get("id"), lastSeenId));
+        }
+        List<Task> tasks = taskRepository.findBy(spec, query -> query
+                .project("author", "assignee")
+                .sortBy(Sort.by("id"))
+                .limit(size + 1)
+                .all());
+        boolean last = tasks.size() <= size;
+        List<Task> pageTasks = last ? tasks : tasks.subList(0, size);
+        log.info("Tasks found");
+        List<TaskDto> taskDtos = toTaskDtos(pageTasks, latestComments);
+        String nextCursor = last ? null : CursorCodec.encode(pageTasks.get(pageTasks.size() - 1).getId());
+        return new CursorPaginatedResponse<>(taskDtos, size, nextCursor, last);
     }
 
-    private User checkAssigneeExist(Long assigneeId) {
-        return userRepository.findById(assigneeId).orElseThrow(
-                () -> new EntityNotFoundException("Assignee with id %s not found".formatted(assigneeId)));
+    /**
+     * Takes the user from the access token, so that permission checks need no query. A request can only
+     * act as the authenticated user.
+     */
+    private User checkUser(Long userId) {
+        return JwtPrincipal.actingAs(userId).toUser();
     }
 
     private void checkUserRole(User user) {
@@ -124,42 +334,163 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    private void checkBatchSize(int size) {
+        if (size > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size %s exceeds the limit of %s".formatted(size, MAX_BATCH_SIZE));
+        }
+    }
+
+    private Map<Long, User> findUsers(Stream<Long> userIds) {
+        Set<Long> ids = userIds
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    /**
+     * @return the reason the item cannot be created, or {@code null} if it is valid
+     */
+    private String validateNewTask(TaskCreateDto taskDto, JwtPrincipal principal, Map<Long, User> assignees,
+                                   Set<String> takenTitles) {
+        Set<ConstraintViolation<TaskCreateDto>> violations = validator.validate(taskDto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (!taskDto.authorId().equals(principal.userId())) {
+            return "Not allowed to act as user with id %s".formatted(taskDto.authorId());
+        }
+        if (taskDto.assigneeId() != null && !assignees.containsKey(taskDto.assigneeId())) {
+            return "Assignee with id %s not found".formatted(taskDto.assigneeId());
+        }
+        if (takenTitles.contains(taskDto.title())) {
+            return "Task with title %s already exists".formatted(taskDto.title());
+        }
+        return null;
+    }
+
+    private boolean isAssignee(Task task, User user) {
+        return task.getAssignee() != null && task.getAssignee().getId().equals(user.getId());
+    }
+
     private Task checkTaskExist(Long taskId) {
         return taskRepository.findById(taskId).orElseThrow(
                 () -> new EntityNotFoundException("Task with id %S not found".formatted(taskId)));
     }
 
-    private void updateTaskFields(Task task, TaskUpdateDto taskDto, Boolean isAdmin) {
-        if (taskDto.status() != null) {
-            task.setStatus(taskDto.status());
+    private List<TaskDto> toTaskDtos(List<Task> tasks, Integer latestComments) {
+        if (latestComments != null) {
+            return toTaskPreviews(tasks, latestComments);
         }
-        if (taskDto.priority() != null && isAdmin) {
-            task.setPriority(taskDto.priority());
+        fetchComments(tasks);
+        return tasks.stream()
+                .map(taskMapper::toTaskDto)
+                .toList();
+    }
+
+    /**
+     * Maps tasks with their comment counts and latest comments, read with one query each
+     * for all tasks instead of initializing every comment collection.
+     */
+    private List<TaskDto> toTaskPreviews(List<Task> tasks, int latestComments) {
+        if (tasks.isEmpty()) {
+            return List.of();
         }
-        if (taskDto.description() != null && isAdmin) {
-            task.setDescription(taskDto.description());
+        List<Long> ids = tasks.stream()
+                .map(Task::getId)
+                .toList();
+        Map<Long, Long> counts = commentRepository.countByTaskIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskCommentCountDto::taskId, TaskCommentCountDto::commentCount));
+        Map<Long, List<CommentDto>> latest = latestComments == 0
+                ? Map.of()
+                : commentRepository.findLatestByTaskIdIn(ids, latestComments).stream()
+                        .map(commentMapper::toCommentDto)
+                        .collect(Collectors.groupingBy(CommentDto::taskId));
+        return tasks.stream()
+                .map(task -> taskMapper.toTaskPreviewDto(task,
+                        latest.getOrDefault(task.getId(), List.of()),
+                        counts.getOrDefault(task.getId(), 0L)))
+                .toList();
+    }
+
+    private void fetchComments(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
         }
-        if (taskDto.assigneeId() != null && isAdmin) {
-            User assignee = checkAssigneeExist(taskDto.assigneeId());
-            task.setAssignee(assignee);
+        List<Long> ids = tasks.stream()
+                .map(Task::getId)
+                .toList();
+        taskRepository.findAllWithCommentsByIdIn(ids);
+    }
+
+    /**
+     * Changes the status with a single UPDATE. The task is only read if no row matched,
+     * to report why the update was rejected.
+     *
+     * @return the new version of the task, or {@code null} if it is not known without reading the task
+     */
+    private Long patchStatus(Long taskId, Status status, User user, boolean isAdmin, Long expectedVersion) {
+        Long assigneeId = isAdmin ? null : user.getId();
+        int updated = taskRepository.updateStatus(taskId, status, expectedVersion, assigneeId);
+        if (updated == 0) {
+            throw rejectedUpdate(taskId, user, isAdmin, expectedVersion);
         }
+        domainEventPublisher.publish(new TaskUpdated(taskId, null));
+        log.info("Status of task with id {} was changed to {}", taskId, status);
+        return expectedVersion != null ? expectedVersion + 1 : null;
     }
 
-    private Specification<Task> buildSpecification(User user, TaskFilterDto filter) {
-        return (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            if (user.getRole().equals(Role.ADMIN)) {
-                predicates.add(criteriaBuilder.equal(root.get("author").get("id"), user.getId()));
-            } else if (user.getRole().equals(Role.USER)) {
-                predicates.add(criteriaBuilder.equal(root.get("assignee").get("id"), user.getId()));
-            }
-            if (filter.status() != null) {
-                predicates.add(criteriaBuilder.equal(root.get("status"), filter.status()));
-            }
-            if (filter.priority() != null) {
-                predicates.add(criteriaBuilder.equal(root.get("priority"), filter.priority()));
-            }
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
+    /**
+     * Writes the fields the user may change with a single UPDATE that also checks the permission and
+     * the version. The task is only read if no row matched, to report why the update was rejected.
+     * Non-admin users can only change the status. A new assignee that does not exist is reported by
+     * the foreign key.
+     */
+    private TaskUpdateResultDto updateFields(Long taskId, TaskUpdateDto taskDto, User user, boolean isAdmin,
+                                             Long expectedVersion) {
+        TaskUpdateDto changes = isAdmin
+                ? taskDto
+                : TaskUpdateDto.builder()
+                        .userId(taskDto.userId())
+                        .status(taskDto.status())
+                        .build();
+        return taskRepository.updateFields(taskId, changes, expectedVersion, isAdmin ? null : user.getId())
+                .orElseThrow(() -> rejectedUpdate(taskId, user, isAdmin, expectedVersion));
+    }
+
+    /**
+     * Reads the task after a conditional update matched no row and throws the reason: the task does
+     * not exist, the user may not change it, or its version differs. If none of these holds any more,
+     * the task was changed concurrently between the update and the read.
+     */
+    private RuntimeException rejectedUpdate(Long taskId, User user, boolean isAdmin, Long expectedVersion) {
+        Task task = checkTaskExist(taskId);
+        checkCanUpdate(task, user, isAdmin);
+        checkVersion(task, expectedVersion);
+        return new ObjectOptimisticLockingFailureException(Task.class, taskId);
+    }
+
+    private boolean isStatusOnly(TaskUpdateDto taskDto) {
+        return taskDto.status() != null
+                && taskDto.title() == null
+                && taskDto.description() == null
+                && taskDto.priority() == null
+                && taskDto.assigneeId() == null;
+    }
+
+    private void checkCanUpdate(Task task, User user, boolean isAdmin) {
+        if (!isAdmin && !isAssignee(task, user)) {
+            throw new UserRoleException("User does not have permission to update this task");
+        }
+    }
+
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task with id %s has been modified, current version is %s"
+                    .formatted(task.getId(), task.getVersion()));
+        }
     }
 }
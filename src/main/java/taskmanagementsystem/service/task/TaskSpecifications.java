@@ -0,0 +1,48 @@
+package taskmanagementsystem.service.task;
+
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import taskmanagementsystem.dto.task.TaskFilterDto;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.Task;
+import taskmanagementsystem.entity.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Visibility rules shared by every task listing: admins see the tasks they authored,
+ * users see the tasks assigned to them.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> visibleTo(User user, TaskFilterDto filter) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (user.getRole().equals(Role.ADMIN)) {
+                predicates.add(criteriaBuilder.equal(root.get("author").get("id"), user.getId()));
+            } else if (user.getRole().equals(Role.USER)) {
+                predicates.add(criteriaBuilder.equal(root.get("assignee").get("id"), user.getId()));
+            }
+            if (filter.status() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), filter.status()));
+            }
+            if (filter.priority() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("priority"), filter.priority()));
+            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Tasks last written by a transaction from {@code since} inclusive to {@code until} exclusive.
+     */
+    public static Specification<Task> changedBetween(long since, long until) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.greaterThanOrEqualTo(root.<Long>get("changeXid"), since),
+                criteriaBuilder.lessThan(root.<Long>get("changeXid"), until));
+    }
+}
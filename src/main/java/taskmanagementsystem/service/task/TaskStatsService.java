@@ -0,0 +1,8 @@
+package taskmanagementsystem.service.task;
+
+import taskmanagementsystem.dto.task.TaskStatsDto;
+
+public interface TaskStatsService {
+
+    TaskStatsDto getStats(Long userId);
+}
@@ -0,0 +1,78 @@
+package taskmanagementsystem.service.task;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagementsystem.dto.task.TaskCountsDto;
+import taskmanagementsystem.dto.task.TaskStatsDto;
+import taskmanagementsystem.entity.Priority;
+import taskmanagementsystem.entity.Status;
+import taskmanagementsystem.entity.TaskCounter;
+import taskmanagementsystem.entity.TaskCounterDelta;
+import taskmanagementsystem.entity.TaskCounterId;
+import taskmanagementsystem.entity.TaskRelation;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.repository.TaskCounterDeltaRepository;
+import taskmanagementsystem.repository.TaskCounterRepository;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds task statistics from the {@link TaskCounter} rows of a user plus the {@link TaskCounterDelta} rows
+ * not yet rolled up into them, so the cost does not depend on how many tasks or comments the user has.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskStatsServiceImpl implements TaskStatsService {
+
+    private final TaskCounterRepository taskCounterRepository;
+    private final TaskCounterDeltaRepository taskCounterDeltaRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskStatsDto getStats(Long userId) {
+        log.info("Trying to get task statistics of user with id {}", userId);
+        JwtPrincipal.actingAs(userId);
+        List<TaskCounter> counters = new ArrayList<>(taskCounterRepository.findByIdUserId(userId));
+        for (TaskCounterDelta delta : taskCounterDeltaRepository.findByUserId(userId)) {
+            counters.add(new TaskCounter(
+                    new TaskCounterId(userId, delta.getRelation(), delta.getStatus(), delta.getPriority()),
+                    delta.getTaskDelta(), delta.getCommentDelta()));
+        }
+        return new TaskStatsDto(userId,
+                sum(counters, TaskRelation.AUTHOR),
+                sum(counters, TaskRelation.ASSIGNEE));
+    }
+
+    private TaskCountsDto sum(List<TaskCounter> counters, TaskRelation relation) {
+        Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        for (Status status : Status.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, 0L);
+        }
+        long tasks = 0;
+        long comments = 0;
+        long openComments = 0;
+        for (TaskCounter counter : counters) {
+            if (counter.getId().getRelation() != relation) {
+                continue;
+            }
+            byStatus.merge(counter.getId().getStatus(), counter.getTaskCount(), Long::sum);
+            byPriority.merge(counter.getId().getPriority(), counter.getTaskCount(), Long::sum);
+            tasks += counter.getTaskCount();
+            comments += counter.getCommentCount();
+            if (counter.getId().getStatus() != Status.COMPLETED) {
+                openComments += counter.getCommentCount();
+            }
+        }
+        return new TaskCountsDto(tasks, byStatus, byPriority, comments, openComments);
+    }
+}
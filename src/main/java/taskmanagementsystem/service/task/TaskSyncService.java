@@ -0,0 +1,8 @@
+package taskmanagementsystem.service.task;
+
+import taskmanagementsystem.dto.task.TaskChangesDto;
+
+public interface TaskSyncService {
+
+    TaskChangesDto getChanges(Long userId, long since, int size);
+}
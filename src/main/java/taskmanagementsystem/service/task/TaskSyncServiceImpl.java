@@ -0,0 +1,181 @@
+package taskmanagementsystem.service.task;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import taskmanagementsystem.dto.comment.CommentDto;
+import taskmanagementsystem.dto.task.TaskChangesDto;
+import taskmanagementsystem.dto.task.TaskDto;
+import taskmanagementsystem.dto.task.TaskFilterDto;
+import taskmanagementsystem.entity.Comment;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.Task;
+import taskmanagementsystem.entity.Tombstone;
+import taskmanagementsystem.entity.TombstoneType;
+import taskmanagementsystem.entity.User;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.mapper.CommentMapper;
+import taskmanagementsystem.mapper.TaskMapper;
+import taskmanagementsystem.repository.CommentRepository;
+import taskmanagementsystem.repository.TaskRepository;
+import taskmanagementsystem.repository.TombstoneRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Returns what changed for a user after a watermark.
+ * <p>
+ * Every task, comment and tombstone records the ID of the transaction that last wrote it. The watermark is
+ * a transaction ID: a request returns the rows of transactions from {@code since} up to, but excluding, the
+ * new watermark. Only transactions below the oldest one still running are read, and those have all ended,
+ * so a transaction that commits later always has an ID at or above the watermark and is never skipped.
+ * </p>
+ * <p>
+ * Tasks, comments and tombstones are each read in transaction order, at most {@code size + 1} rows apiece.
+ * If any of them has more rows than requested, the new watermark is the lowest transaction among the first
+ * rows left out and newer rows are held back for the next request. A single transaction that changed more
+ * than {@code size} rows of one kind is returned whole, so that the watermark always moves.
+ * </p>
+ * <p>
+ * A task that was given to the user after the watermark is returned with the comments written before it,
+ * since those were left out of earlier responses while the task was not visible to the user.
+ * </p>
+ * <p>
+ * Changes are read in a read-write transaction, so they come from the primary even when a replica is
+ * configured: rows that reach the replica after the watermark has passed them would never be returned.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskSyncServiceImpl implements TaskSyncService {
+
+    private static final Sort CHANGE_ORDER = Sort.by("changeXid", "changeSeq");
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final TaskMapper taskMapper;
+    private final CommentMapper commentMapper;
+
+    @Override
+    @Transactional
+    public TaskChangesDto getChanges(Long userId, long since, int size) {
+        log.info("Trying to get changes of user with id {} since {}", userId, since);
+        User user = JwtPrincipal.actingAs(userId).toUser();
+        long horizon = Math.max(since, taskRepository.findChangeHorizon());
+
+        Changes changes = readChanges(user, since, horizon, PageRequest.of(0, size + 1));
+        boolean hasMore = changes.tasks().size() > size
+                || changes.comments().size() > size
+                || changes.tombstones().size() > size;
+        long watermark = horizon;
+        if (hasMore) {
+            watermark = Math.min(Math.min(firstLeftOut(changes.tasks(), Task::getChangeXid, size),
+                    firstLeftOut(changes.comments(), Comment::getChangeXid, size)),
+                    firstLeftOut(changes.tombstones(), Tombstone::getChangeXid, size));
+            if (watermark == since) {
+                watermark = since + 1;
+                changes = readChanges(user, since, watermark, Pageable.unpaged());
+            }
+        }
+        long until = watermark;
+
+        List<Task> tasks = changes.tasks().stream()
+                .filter(task -> task.getChangeXid() < until)
+                .toList();
+        List<TaskDto> changedTasks = tasks.stream()
+                .map(taskMapper::toTaskDtoWithoutComments)
+                .toList();
+        Set<Long> visibleTaskIds = changedTasks.stream()
+                .map(TaskDto::id)
+                .collect(Collectors.toSet());
+        List<CommentDto> changedComments = new ArrayList<>(earlierComments(user, tasks, since));
+        changes.comments().stream()
+                .filter(comment -> comment.getChangeXid() < until)
+                .map(commentMapper::toCommentDto)
+                .forEach(changedComments::add);
+        TaskChangesDto result = new TaskChangesDto(
+                changedTasks,
+                changedComments,
+                removedIds(changes.tombstones(), TombstoneType.TASK, until, visibleTaskIds),
+                removedIds(changes.tombstones(), TombstoneType.COMMENT, until, Set.of()),
+                watermark,
+                hasMore
+        );
+        log.info("{} tasks, {} comments and {} removals changed up to {}", result.tasks().size(),
+                result.comments().size(), result.removedTaskIds().size() + result.removedCommentIds().size(), watermark);
+        return result;
+    }
+
+    /**
+     * Reads the rows of the user written by transactions from {@code since} inclusive to {@code until} exclusive.
+     */
+    private Changes readChanges(User user, long since, long until, Pageable pageable) {
+        boolean isAdmin = user.getRole().equals(Role.ADMIN);
+        Specification<Task> spec = TaskSpecifications.visibleTo(user, new TaskFilterDto(null, null))
+                .and(TaskSpecifications.changedBetween(since, until));
+        List<Task> tasks = taskRepository.findBy(spec, query -> pageable.isPaged()
+                ? query.sortBy(CHANGE_ORDER).limit(pageable.getPageSize()).all()
+                : query.sortBy(CHANGE_ORDER).all());
+        List<Comment> comments = isAdmin
+                ? commentRepository.findChangedOnTasksOfAuthor(user.getId(), since, until, pageable)
+                : commentRepository.findChangedOnTasksOfAssignee(user.getId(), since, until, pageable);
+        List<Tombstone> tombstones = isAdmin
+                ? tombstoneRepository.findForAuthor(user.getId(), since, until, pageable)
+                : tombstoneRepository.findForAssignee(user.getId(), since, until, pageable);
+        return new Changes(tasks, comments, tombstones);
+    }
+
+    /**
+     * Comments written before {@code since} on the tasks that were assigned to the user at or after it.
+     * The author of a task never changes, so only assignees can gain tasks that already have comments.
+     */
+    private List<CommentDto> earlierComments(User user, List<Task> tasks, long since) {
+        if (since == 0 || user.getRole().equals(Role.ADMIN)) {
+            return List.of();
+        }
+        List<Long> assignedTaskIds = tasks.stream()
+                .filter(task -> task.getAssignedXid() >= since)
+                .map(Task::getId)
+                .toList();
+        if (assignedTaskIds.isEmpty()) {
+            return List.of();
+        }
+        return commentRepository.findByTaskIdInAndChangeXidLessThanOrderById(assignedTaskIds, since).stream()
+                .map(commentMapper::toCommentDto)
+                .toList();
+    }
+
+    /**
+     * @return the transaction of the first row that does not fit into the page, or {@link Long#MAX_VALUE}
+     * if the list is not truncated
+     */
+    private <T> long firstLeftOut(List<T> rows, ToLongFunction<T> changeXid, int size) {
+        return rows.size() > size ? changeXid.applyAsLong(rows.get(size)) : Long.MAX_VALUE;
+    }
+
+    /**
+     * A task that was taken away from its assignee and later given back is returned as changed, not removed.
+     */
+    private List<Long> removedIds(List<Tombstone> tombstones, TombstoneType type, long until, Set<Long> stillVisible) {
+        return tombstones.stream()
+                .filter(tombstone -> tombstone.getEntityType() == type && tombstone.getChangeXid() < until)
+                .map(Tombstone::getEntityId)
+                .filter(id -> !stillVisible.contains(id))
+                .distinct()
+                .toList();
+    }
+
+    private record Changes(List<Task> tasks, List<Comment> comments, List<Tombstone> tombstones) {
+    }
+}
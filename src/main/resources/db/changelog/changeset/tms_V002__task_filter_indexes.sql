@@ -0,0 +1,11 @@
+-- Admins list the tasks they authored, users list the tasks assigned to them,
+-- both optionally narrowed by status and priority.
+CREATE INDEX IF NOT EXISTS idx_tasks_author_id_status_priority ON tasks (author_id, status, priority);
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_id_status_priority ON tasks (assignee_id, status, priority);
+
+-- Unfiltered and cursor-paginated listings are ordered by id.
+CREATE INDEX IF NOT EXISTS idx_tasks_author_id_id ON tasks (author_id, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_id_id ON tasks (assignee_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_comments_task_id_id ON comments (task_id, id);
+CREATE INDEX IF NOT EXISTS idx_comments_user_id ON comments (user_id);
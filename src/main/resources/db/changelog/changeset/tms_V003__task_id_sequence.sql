@@ -0,0 +1,4 @@
+-- Task ids are allocated by Hibernate from the identity sequence in blocks of 50,
+-- which lets inserts of many tasks be sent to the database in JDBC batches.
+ALTER TABLE tasks ALTER COLUMN id SET GENERATED BY DEFAULT;
+ALTER TABLE tasks ALTER COLUMN id SET INCREMENT BY 50;
@@ -0,0 +1,2 @@
+-- Optimistic locking: every write to a task, including its comments, increments the version.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- Domain events written in the same transaction as the change they describe,
+-- and removed once every listener has processed them.
+CREATE SEQUENCE IF NOT EXISTS outbox_events_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id bigint PRIMARY KEY DEFAULT nextval('outbox_events_id_seq'),
+    type varchar(64) not null,
+    payload text not null,
+    created_at timestamp with time zone not null,
+    available_at timestamp with time zone not null,
+    attempts int not null default 0,
+    last_error varchar(1024)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_available_at_id ON outbox_events(available_at, id);
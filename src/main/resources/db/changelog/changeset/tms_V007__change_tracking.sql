@@ -0,0 +1,79 @@
+--liquibase formatted sql
+
+--changeset tms:tms_V007__change_tracking splitStatements:false
+-- Every insert and update of a task or comment takes the next value of change_seq, and every delete
+-- leaves a tombstone with its own value, so clients can ask for everything after the last value they saw.
+-- updated_at uses clock_timestamp() so that it reflects when the row was written, not when its
+-- transaction started.
+CREATE SEQUENCE IF NOT EXISTS change_seq;
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS change_seq bigint NOT NULL DEFAULT nextval('change_seq');
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS updated_at timestamp with time zone NOT NULL DEFAULT clock_timestamp();
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS change_seq bigint NOT NULL DEFAULT nextval('change_seq');
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS updated_at timestamp with time zone NOT NULL DEFAULT clock_timestamp();
+
+-- author_id and assignee_id are the users who could see the removed row and must drop it.
+CREATE TABLE IF NOT EXISTS tombstones (
+    change_seq bigint PRIMARY KEY DEFAULT nextval('change_seq'),
+    entity_type varchar(16) not null,
+    entity_id bigint not null,
+    task_id bigint not null,
+    author_id bigint,
+    assignee_id bigint,
+    deleted_at timestamp with time zone not null default clock_timestamp()
+);
+
+CREATE OR REPLACE FUNCTION tms_touch_row() RETURNS trigger AS $$
+BEGIN
+    NEW.change_seq := nextval('change_seq');
+    NEW.updated_at := clock_timestamp();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- A deleted task disappears for its author and assignee; a reassigned task disappears for its previous assignee.
+CREATE OR REPLACE FUNCTION tms_task_tombstone() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO tombstones (entity_type, entity_id, task_id, author_id, assignee_id)
+        VALUES ('TASK', OLD.id, OLD.id, OLD.author_id, OLD.assignee_id);
+    ELSIF OLD.assignee_id IS NOT NULL AND OLD.assignee_id IS DISTINCT FROM NEW.assignee_id THEN
+        INSERT INTO tombstones (entity_type, entity_id, task_id, author_id, assignee_id)
+        VALUES ('TASK', OLD.id, OLD.id, NULL, OLD.assignee_id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- When the whole task is deleted its row is already gone and the task tombstone covers the comments.
+CREATE OR REPLACE FUNCTION tms_comment_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO tombstones (entity_type, entity_id, task_id, author_id, assignee_id)
+    SELECT 'COMMENT', OLD.id, OLD.task_id, t.author_id, t.assignee_id
+    FROM tasks t
+    WHERE t.id = OLD.task_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS tasks_touch ON tasks;
+CREATE TRIGGER tasks_touch BEFORE INSERT OR UPDATE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tms_touch_row();
+
+DROP TRIGGER IF EXISTS comments_touch ON comments;
+CREATE TRIGGER comments_touch BEFORE INSERT OR UPDATE ON comments
+    FOR EACH ROW EXECUTE FUNCTION tms_touch_row();
+
+DROP TRIGGER IF EXISTS tasks_tombstone ON tasks;
+CREATE TRIGGER tasks_tombstone AFTER UPDATE OF assignee_id OR DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tms_task_tombstone();
+
+DROP TRIGGER IF EXISTS comments_tombstone ON comments;
+CREATE TRIGGER comments_tombstone AFTER DELETE ON comments
+    FOR EACH ROW EXECUTE FUNCTION tms_comment_tombstone();
+
+CREATE INDEX IF NOT EXISTS idx_tasks_author_id_change_seq ON tasks(author_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_id_change_seq ON tasks(assignee_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_comments_change_seq ON comments(change_seq);
+CREATE INDEX IF NOT EXISTS idx_tombstones_author_id_change_seq ON tombstones(author_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_tombstones_assignee_id_change_seq ON tombstones(assignee_id, change_seq);
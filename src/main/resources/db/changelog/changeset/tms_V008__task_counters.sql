@@ -0,0 +1,92 @@
+--liquibase formatted sql
+
+--changeset tms:tms_V008__task_counters splitStatements:false
+-- Task and comment counts per user, status and priority, kept current by triggers so that
+-- statistics are read from a handful of rows instead of counting the user's tasks.
+-- relation is AUTHOR or ASSIGNEE; comment_count sums the comments of the counted tasks.
+CREATE TABLE IF NOT EXISTS task_counters (
+    user_id bigint not null,
+    relation varchar(16) not null,
+    status varchar(50) not null,
+    priority varchar(50) not null,
+    task_count bigint not null default 0,
+    comment_count bigint not null default 0,
+    PRIMARY KEY (user_id, relation, status, priority)
+);
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS comment_count bigint NOT NULL DEFAULT 0;
+
+-- Backfilling comment_count is not a change clients have to sync.
+ALTER TABLE tasks DISABLE TRIGGER tasks_touch;
+UPDATE tasks t SET comment_count = c.comment_count
+FROM (SELECT task_id, count(*) AS comment_count FROM comments GROUP BY task_id) c
+WHERE c.task_id = t.id;
+ALTER TABLE tasks ENABLE TRIGGER tasks_touch;
+
+INSERT INTO task_counters (user_id, relation, status, priority, task_count, comment_count)
+SELECT author_id, 'AUTHOR', status, priority, count(*), sum(comment_count)
+FROM tasks
+GROUP BY author_id, status, priority;
+
+INSERT INTO task_counters (user_id, relation, status, priority, task_count, comment_count)
+SELECT assignee_id, 'ASSIGNEE', status, priority, count(*), sum(comment_count)
+FROM tasks
+WHERE assignee_id IS NOT NULL
+GROUP BY assignee_id, status, priority;
+
+CREATE OR REPLACE FUNCTION tms_adjust_task_counter(p_user_id bigint, p_relation varchar, p_status varchar,
+                                                   p_priority varchar, p_tasks bigint, p_comments bigint)
+    RETURNS void AS $$
+BEGIN
+    INSERT INTO task_counters (user_id, relation, status, priority, task_count, comment_count)
+    VALUES (p_user_id, p_relation, p_status, p_priority, p_tasks, p_comments)
+    ON CONFLICT (user_id, relation, status, priority) DO UPDATE
+        SET task_count = task_counters.task_count + EXCLUDED.task_count,
+            comment_count = task_counters.comment_count + EXCLUDED.comment_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- An update moves the task, with its comments, from the counters of its old values to those of its new ones.
+CREATE OR REPLACE FUNCTION tms_task_counters() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE'
+        AND (OLD.author_id, OLD.assignee_id, OLD.status, OLD.priority, OLD.comment_count)
+            IS NOT DISTINCT FROM (NEW.author_id, NEW.assignee_id, NEW.status, NEW.priority, NEW.comment_count) THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM tms_adjust_task_counter(OLD.author_id, 'AUTHOR', OLD.status, OLD.priority, -1, -OLD.comment_count);
+        IF OLD.assignee_id IS NOT NULL THEN
+            PERFORM tms_adjust_task_counter(OLD.assignee_id, 'ASSIGNEE', OLD.status, OLD.priority, -1, -OLD.comment_count);
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM tms_adjust_task_counter(NEW.author_id, 'AUTHOR', NEW.status, NEW.priority, 1, NEW.comment_count);
+        IF NEW.assignee_id IS NOT NULL THEN
+            PERFORM tms_adjust_task_counter(NEW.assignee_id, 'ASSIGNEE', NEW.status, NEW.priority, 1, NEW.comment_count);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Comments only change tasks.comment_count; the task trigger carries the change to the counters.
+-- When the task itself is being deleted its row is already gone and nothing is updated.
+CREATE OR REPLACE FUNCTION tms_comment_count() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE tasks SET comment_count = comment_count + 1 WHERE id = NEW.task_id;
+    ELSE
+        UPDATE tasks SET comment_count = comment_count - 1 WHERE id = OLD.task_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS tasks_counters ON tasks;
+CREATE TRIGGER tasks_counters AFTER INSERT OR UPDATE OF author_id, assignee_id, status, priority, comment_count OR DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tms_task_counters();
+
+DROP TRIGGER IF EXISTS comments_count ON comments;
+CREATE TRIGGER comments_count AFTER INSERT OR DELETE ON comments
+    FOR EACH ROW EXECUTE FUNCTION tms_comment_count();
@@ -0,0 +1,7 @@
+-- IDs of refresh tokens that were used or revoked. A row is only needed until the token expires.
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    token_id varchar(36) PRIMARY KEY,
+    expires_at timestamp with time zone not null
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
@@ -0,0 +1,15 @@
+--liquibase formatted sql
+
+--changeset tms:tms_V010__comment_task_version splitStatements:false
+-- Creating or deleting a comment also moves its task to a new version, so the task's ETag changes
+-- without a separate UPDATE from the application.
+CREATE OR REPLACE FUNCTION tms_comment_count() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE tasks SET comment_count = comment_count + 1, version = version + 1 WHERE id = NEW.task_id;
+    ELSE
+        UPDATE tasks SET comment_count = comment_count - 1, version = version + 1 WHERE id = OLD.task_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
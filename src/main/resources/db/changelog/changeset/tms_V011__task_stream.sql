@@ -0,0 +1,19 @@
+-- Task changes in the order they were dispatched, shared by every instance serving event streams.
+-- seq is taken from the single task_stream_head row, whose lock is held until the dispatching
+-- transaction commits, so seq values become visible in increasing order and without gaps.
+CREATE TABLE IF NOT EXISTS task_stream_head (
+    id smallint PRIMARY KEY,
+    last_seq bigint not null
+);
+
+INSERT INTO task_stream_head (id, last_seq) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
+
+CREATE TABLE IF NOT EXISTS task_stream_events (
+    seq bigint PRIMARY KEY,
+    name varchar(64) not null,
+    payload text not null,
+    author_id bigint,
+    assignee_id bigint,
+    previous_assignee_id bigint,
+    created_at timestamp with time zone not null default now()
+);
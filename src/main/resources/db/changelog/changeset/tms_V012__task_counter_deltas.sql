@@ -0,0 +1,28 @@
+--liquibase formatted sql
+
+--changeset tms:tms_V012__task_counter_deltas splitStatements:false
+-- Task writes no longer update the shared task_counters rows directly. Every task of an author adjusted
+-- the same few rows, so concurrent writes queued on their locks and two transactions touching counters of
+-- the same users in opposite order could deadlock. The triggers now only append deltas, which never
+-- conflict; TaskCounterRollup folds them into task_counters in key order, and statistics add the deltas
+-- that are still pending, so they stay exact.
+CREATE TABLE IF NOT EXISTS task_counter_deltas (
+    id bigserial PRIMARY KEY,
+    user_id bigint not null,
+    relation varchar(16) not null,
+    status varchar(50) not null,
+    priority varchar(50) not null,
+    task_delta bigint not null,
+    comment_delta bigint not null
+);
+
+CREATE INDEX IF NOT EXISTS task_counter_deltas_user_id_idx ON task_counter_deltas (user_id);
+
+CREATE OR REPLACE FUNCTION tms_adjust_task_counter(p_user_id bigint, p_relation varchar, p_status varchar,
+                                                   p_priority varchar, p_tasks bigint, p_comments bigint)
+    RETURNS void AS $$
+BEGIN
+    INSERT INTO task_counter_deltas (user_id, relation, status, priority, task_delta, comment_delta)
+    VALUES (p_user_id, p_relation, p_status, p_priority, p_tasks, p_comments);
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,60 @@
+--liquibase formatted sql
+
+--changeset tms:tms_V013__change_xact splitStatements:false
+-- change_seq values are taken when a row is written, not when its transaction commits, so a client that
+-- saw change 11 could still miss change 10 committing later. Every task, comment and tombstone now also
+-- records the ID of the transaction that wrote it. Synchronization orders changes by transaction and only
+-- returns rows of transactions below the oldest one still running (tms_change_horizon), which have all
+-- ended: a transaction that commits later always has a higher ID than everything already returned.
+-- assigned_xid is the transaction that gave a task its current assignee, so the comments written before
+-- the task entered the assignee's view can be sent along with it.
+-- Rows written before this migration get 0, which sorts them before every later transaction.
+CREATE OR REPLACE FUNCTION tms_current_xid() RETURNS bigint AS $$
+    SELECT cast(cast(pg_current_xact_id() as text) as bigint);
+$$ LANGUAGE sql VOLATILE;
+
+CREATE OR REPLACE FUNCTION tms_change_horizon() RETURNS bigint AS $$
+    SELECT cast(cast(pg_snapshot_xmin(pg_current_snapshot()) as text) as bigint);
+$$ LANGUAGE sql VOLATILE;
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS change_xid bigint NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS assigned_xid bigint NOT NULL DEFAULT 0;
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS change_xid bigint NOT NULL DEFAULT 0;
+ALTER TABLE tombstones ADD COLUMN IF NOT EXISTS change_xid bigint NOT NULL DEFAULT 0;
+ALTER TABLE tombstones ALTER COLUMN change_xid SET DEFAULT tms_current_xid();
+
+CREATE OR REPLACE FUNCTION tms_touch_row() RETURNS trigger AS $$
+BEGIN
+    NEW.change_seq := nextval('change_seq');
+    NEW.change_xid := tms_current_xid();
+    NEW.updated_at := clock_timestamp();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION tms_task_assigned() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        NEW.assigned_xid := tms_current_xid();
+    ELSIF NEW.assignee_id IS DISTINCT FROM OLD.assignee_id THEN
+        NEW.assigned_xid := tms_current_xid();
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS tasks_assigned ON tasks;
+CREATE TRIGGER tasks_assigned BEFORE INSERT OR UPDATE OF assignee_id ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tms_task_assigned();
+
+DROP INDEX IF EXISTS idx_tasks_author_id_change_seq;
+DROP INDEX IF EXISTS idx_tasks_assignee_id_change_seq;
+DROP INDEX IF EXISTS idx_comments_change_seq;
+DROP INDEX IF EXISTS idx_tombstones_author_id_change_seq;
+DROP INDEX IF EXISTS idx_tombstones_assignee_id_change_seq;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_author_id_change_xid ON tasks(author_id, change_xid, change_seq);
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_id_change_xid ON tasks(assignee_id, change_xid, change_seq);
+CREATE INDEX IF NOT EXISTS idx_comments_change_xid ON comments(change_xid, change_seq);
+CREATE INDEX IF NOT EXISTS idx_tombstones_author_id_change_xid ON tombstones(author_id, change_xid, change_seq);
+CREATE INDEX IF NOT EXISTS idx_tombstones_assignee_id_change_xid ON tombstones(assignee_id, change_xid, change_seq);
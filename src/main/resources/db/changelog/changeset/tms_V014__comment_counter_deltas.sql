@@ -0,0 +1,71 @@
+--liquibase formatted sql
+
+--changeset tms:tms_V014__comment_counter_deltas splitStatements:false
+-- Comments no longer update their task. Every comment on a task wrote tasks.comment_count and version on
+-- the same row, so concurrent comments queued on its lock, and each update left a new row version behind.
+-- A comment now only reads its task's counter key and appends the delta itself. FOR SHARE does not block
+-- other comments, but waits for a running update of the task, so a comment is always counted under the
+-- status and priority the task has when both have committed.
+-- When the task itself is being deleted its row is already gone and nothing is appended.
+CREATE OR REPLACE FUNCTION tms_comment_count() RETURNS trigger AS $$
+DECLARE
+    task record;
+    delta bigint;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        SELECT author_id, assignee_id, status, priority INTO task FROM tasks WHERE id = NEW.task_id FOR SHARE;
+        delta := 1;
+    ELSE
+        SELECT author_id, assignee_id, status, priority INTO task FROM tasks WHERE id = OLD.task_id FOR SHARE;
+        delta := -1;
+    END IF;
+    IF NOT FOUND THEN
+        RETURN NULL;
+    END IF;
+    PERFORM tms_adjust_task_counter(task.author_id, 'AUTHOR', task.status, task.priority, 0, delta);
+    IF task.assignee_id IS NOT NULL THEN
+        PERFORM tms_adjust_task_counter(task.assignee_id, 'ASSIGNEE', task.status, task.priority, 0, delta);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Moving or deleting a task counts its comments instead of reading tasks.comment_count. The update holds
+-- the task's row lock, so no comment can be added or removed while they are counted. A deleted task is
+-- counted before its row goes, because the foreign key removes the comments right after it.
+CREATE OR REPLACE FUNCTION tms_task_counters() RETURNS trigger AS $$
+DECLARE
+    task_comments bigint := 0;
+BEGIN
+    IF TG_OP = 'UPDATE'
+        AND (OLD.author_id, OLD.assignee_id, OLD.status, OLD.priority)
+            IS NOT DISTINCT FROM (NEW.author_id, NEW.assignee_id, NEW.status, NEW.priority) THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        SELECT count(*) INTO task_comments FROM comments WHERE task_id = OLD.id;
+        PERFORM tms_adjust_task_counter(OLD.author_id, 'AUTHOR', OLD.status, OLD.priority, -1, -task_comments);
+        IF OLD.assignee_id IS NOT NULL THEN
+            PERFORM tms_adjust_task_counter(OLD.assignee_id, 'ASSIGNEE', OLD.status, OLD.priority, -1, -task_comments);
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM tms_adjust_task_counter(NEW.author_id, 'AUTHOR', NEW.status, NEW.priority, 1, task_comments);
+        IF NEW.assignee_id IS NOT NULL THEN
+            PERFORM tms_adjust_task_counter(NEW.assignee_id, 'ASSIGNEE', NEW.status, NEW.priority, 1, task_comments);
+        END IF;
+        RETURN NULL;
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS tasks_counters ON tasks;
+CREATE TRIGGER tasks_counters AFTER INSERT OR UPDATE OF author_id, assignee_id, status, priority ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tms_task_counters();
+
+DROP TRIGGER IF EXISTS tasks_counters_delete ON tasks;
+CREATE TRIGGER tasks_counters_delete BEFORE DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tms_task_counters();
+
+ALTER TABLE tasks DROP COLUMN IF EXISTS comment_count;
@@ -0,0 +1,183 @@
+package task.management.system.taskmanagementsystem.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import taskmanagementsystem.entity.OutboxEvent;
+import taskmanagementsystem.event.DomainEvent;
+import taskmanagementsystem.event.DomainEventListener;
+import taskmanagementsystem.event.TaskCreated;
+import taskmanagementsystem.event.outbox.OutboxDispatcher;
+import taskmanagementsystem.repository.OutboxEventRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Long> received = new ArrayList<>();
+
+    @BeforeEach
+    void init() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    void testDeliveredEventIsDeleted() throws Exception {
+        OutboxEvent event = event(1L, 0);
+        stubBatch(event);
+
+        int claimed = dispatcher(this::record).dispatchBatch();
+
+        assertEquals(1, claimed);
+        assertEquals(List.of(1L), received);
+        verify(outboxEventRepository).delete(event);
+        verify(outboxEventRepository).lockDue(any(Instant.class), eq(MAX_ATTEMPTS), any(Pageable.class));
+    }
+
+    @Test
+    void testClaimedEventsAreMovedPastTheClaimTimeout() throws Exception {
+        OutboxEvent event = event(1L, 0);
+        when(outboxEventRepository.lockDue(any(Instant.class), eq(MAX_ATTEMPTS), any(Pageable.class)))
+                .thenReturn(List.of(event));
+        Instant before = Instant.now();
+
+        dispatcher((eventId, domainEvent) -> { }).dispatchBatch();
+
+        assertFalse(event.getAvailableAt().isBefore(before.plus(Duration.ofMinutes(1))));
+    }
+
+    @Test
+    void testFailingListenerDoesNotAffectOtherEvents() throws Exception {
+        OutboxEvent failing = event(1L, 0);
+        OutboxEvent delivered = event(2L, 0);
+        stubBatch(failing, delivered);
+        Instant before = Instant.now();
+
+        dispatcher(failOn(1L)).dispatchBatch();
+
+        assertEquals(List.of(2L), received);
+        verify(outboxEventRepository, never()).delete(failing);
+        verify(outboxEventRepository).delete(delivered);
+        assertEquals(1, failing.getAttempts());
+        assertEquals("listener failed", failing.getLastError());
+        assertFalse(failing.getAvailableAt().isBefore(before.plus(RETRY_DELAY)));
+        assertEquals(0, delivered.getAttempts());
+    }
+
+    @Test
+    void testFailedDeliveryIsRolledBackAndRecordedInNewTransaction() throws Exception {
+        stubBatch(event(1L, 0));
+
+        dispatcher(failOn(1L)).dispatchBatch();
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void testRetryDelayGrowsWithAttempts() throws Exception {
+        OutboxEvent event = event(1L, 1);
+        stubBatch(event);
+        Instant before = Instant.now();
+
+        dispatcher(failOn(1L)).dispatchBatch();
+
+        assertEquals(2, event.getAttempts());
+        assertFalse(event.getAvailableAt().isBefore(before.plus(RETRY_DELAY.multipliedBy(2))));
+    }
+
+    @Test
+    void testPoisonEventIsParkedAfterMaxAttempts() throws Exception {
+        OutboxEvent event = event(1L, MAX_ATTEMPTS - 1);
+        stubBatch(event);
+
+        dispatcher(failOn(1L)).dispatchBatch();
+
+        assertEquals(MAX_ATTEMPTS, event.getAttempts());
+        verify(outboxEventRepository, never()).delete(event);
+    }
+
+    @Test
+    void testUnreadablePayloadIsRetried() {
+        OutboxEvent event = OutboxEvent.builder()
+                .id(1L)
+                .type("Unknown")
+                .payload("{\"type\":\"Unknown\"}")
+                .availableAt(Instant.now())
+                .build();
+        stubBatch(event);
+
+        dispatcher(this::record).dispatchBatch();
+
+        assertTrue(received.isEmpty());
+        assertEquals(1, event.getAttempts());
+        assertTrue(event.getLastError().contains("cannot be read"));
+    }
+
+    private OutboxDispatcher dispatcher(DomainEventListener listener) {
+        return new OutboxDispatcher(outboxEventRepository, List.of(listener), objectMapper, transactionManager,
+                new SimpleMeterRegistry(), 10, Duration.ofSeconds(1), RETRY_DELAY, MAX_ATTEMPTS,
+                Duration.ofMinutes(1));
+    }
+
+    private void stubBatch(OutboxEvent... events) {
+        when(outboxEventRepository.lockDue(any(Instant.class), eq(MAX_ATTEMPTS), any(Pageable.class)))
+                .thenReturn(List.of(events));
+        for (OutboxEvent event : events) {
+            when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        }
+    }
+
+    private void record(Long eventId, DomainEvent event) {
+        received.add(eventId);
+    }
+
+    private DomainEventListener failOn(Long failingId) {
+        return (eventId, event) -> {
+            if (eventId.equals(failingId)) {
+                throw new IllegalStateException("listener failed");
+            }
+            received.add(eventId);
+        };
+    }
+
+    private OutboxEvent event(Long id, int attempts) throws Exception {
+        return OutboxEvent.builder()
+                .id(id)
+                .type("TaskCreated")
+                .payload(objectMapper.writerFor(DomainEvent.class).writeValueAsString(new TaskCreated(10L, 1L, 7L)))
+                .availableAt(Instant.now())
+                .attempts(attempts)
+                .build();
+    }
+}
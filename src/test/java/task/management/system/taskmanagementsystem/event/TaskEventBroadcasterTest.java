@@ -0,0 +1,189 @@
+package task.management.system.taskmanagementsystem.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.TaskStreamEvent;
+import taskmanagementsystem.entity.User;
+import taskmanagementsystem.event.TaskCreated;
+import taskmanagementsystem.event.stream.TaskEventBroadcaster;
+import taskmanagementsystem.repository.TaskRepository;
+import taskmanagementsystem.repository.TaskStreamEventRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskEventBroadcasterTest {
+
+    @Mock
+    private TaskStreamEventRepository taskStreamEventRepository;
+    @Mock
+    private TaskRepository taskRepository;
+
+    private final Long userId = 7L;
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private User user;
+
+    @BeforeEach
+    void init() {
+        user = User.builder().id(userId).role(Role.USER).build();
+    }
+
+    @Test
+    void testReplaySendsChangesAfterLastEventId() {
+        TaskEventBroadcaster broadcaster = broadcaster(Runnable::run, 10, 3);
+        when(taskStreamEventRepository.findHeadSeq()).thenReturn(3L);
+        when(taskStreamEventRepository.findBySeqGreaterThanOrderBySeq(eq(1L), any(Limit.class)))
+                .thenReturn(List.of(change(2L, userId), change(3L, 99L)));
+
+        broadcaster.subscribe(user, 1L);
+
+        assertEquals(List.of("TaskUpdated#2"), emitters.get(0).events);
+    }
+
+    @Test
+    void testPollSkipsChangesAlreadyReplayed() {
+        TaskEventBroadcaster broadcaster = broadcaster(Runnable::run, 10, 3);
+        when(taskStreamEventRepository.findHeadSeq()).thenReturn(1L, 2L);
+        broadcaster.poll();
+        when(taskStreamEventRepository.findBySeqGreaterThanOrderBySeq(eq(1L), any(Limit.class)))
+                .thenReturn(List.of(change(2L, userId)), List.of(change(2L, userId), change(3L, userId)));
+
+        broadcaster.subscribe(user, 1L);
+        broadcaster.poll();
+
+        assertEquals(List.of("TaskUpdated#2", "TaskUpdated#3"), emitters.get(0).events);
+    }
+
+    @Test
+    void testReplayFromEmptyBufferSendsReset() {
+        TaskEventBroadcaster broadcaster = broadcaster(Runnable::run, 10, 3);
+        when(taskStreamEventRepository.findHeadSeq()).thenReturn(5L);
+        when(taskStreamEventRepository.findBySeqGreaterThanOrderBySeq(eq(2L), any(Limit.class)))
+                .thenReturn(List.of());
+
+        broadcaster.subscribe(user, 2L);
+
+        assertEquals(List.of("reset#5"), emitters.get(0).events);
+    }
+
+    @Test
+    void testReplayAfterPrunedChangesSendsReset() {
+        TaskEventBroadcaster broadcaster = broadcaster(Runnable::run, 10, 3);
+        when(taskStreamEventRepository.findHeadSeq()).thenReturn(5L);
+        when(taskStreamEventRepository.findBySeqGreaterThanOrderBySeq(eq(2L), any(Limit.class)))
+                .thenReturn(List.of(change(4L, userId), change(5L, userId)));
+
+        broadcaster.subscribe(user, 2L);
+
+        assertEquals(List.of("reset#5"), emitters.get(0).events);
+    }
+
+    @Test
+    void testReplayOfUnknownIdSendsReset() {
+        TaskEventBroadcaster broadcaster = broadcaster(Runnable::run, 10, 3);
+        when(taskStreamEventRepository.findHeadSeq()).thenReturn(5L);
+
+        broadcaster.subscribe(user, 9L);
+
+        assertEquals(List.of("reset#5"), emitters.get(0).events);
+        verify(taskStreamEventRepository, never()).findBySeqGreaterThanOrderBySeq(anyLong(), any(Limit.class));
+    }
+
+    @Test
+    void testReplayOfMoreChangesThanKeptSendsReset() {
+        TaskEventBroadcaster broadcaster = broadcaster(Runnable::run, 10, 2);
+        when(taskStreamEventRepository.findHeadSeq()).thenReturn(4L);
+        when(taskStreamEventRepository.findBySeqGreaterThanOrderBySeq(eq(1L), any(Limit.class)))
+                .thenReturn(List.of(change(2L, userId), change(3L, userId), change(4L, userId)));
+
+        broadcaster.subscribe(user, 1L);
+
+        assertEquals(List.of("reset#4"), emitters.get(0).events);
+    }
+
+    @Test
+    void testFullBufferClosesStream() {
+        TaskEventBroadcaster broadcaster = broadcaster(task -> { }, 1, 3);
+        when(taskStreamEventRepository.findHeadSeq()).thenReturn(0L);
+        when(taskStreamEventRepository.findBySeqGreaterThanOrderBySeq(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(change(1L, userId), change(2L, userId)));
+
+        broadcaster.subscribe(user, null);
+        broadcaster.poll();
+
+        assertTrue(emitters.get(0).completed);
+    }
+
+    @Test
+    void testEventIsAppendedToStream() {
+        TaskEventBroadcaster broadcaster = broadcaster(Runnable::run, 10, 3);
+        when(taskStreamEventRepository.append(eq("TaskCreated"), any(), eq(1L), eq(userId), eq(null)))
+                .thenReturn(12L);
+
+        broadcaster.onEvent(100L, new TaskCreated(10L, 1L, userId));
+
+        verify(taskStreamEventRepository).notifyReaders(12L);
+    }
+
+    private TaskEventBroadcaster broadcaster(TaskExecutor executor, int bufferSize, int replaySize) {
+        return new TaskEventBroadcaster(taskStreamEventRepository, taskRepository, new ObjectMapper(), executor,
+                new SimpleMeterRegistry(), bufferSize, replaySize, Duration.ofMinutes(1)) {
+            @Override
+            protected SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static TaskStreamEvent change(Long seq, Long assigneeId) {
+        return TaskStreamEvent.builder()
+                .seq(seq)
+                .name("TaskUpdated")
+                .payload("{\"type\":\"TaskUpdated\",\"taskId\":10}")
+                .authorId(1L)
+                .assigneeId(assigneeId)
+                .build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String event = builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining());
+            String name = event.substring(event.indexOf("event:") + 6, event.indexOf('\n'));
+            String id = event.substring(event.indexOf("id:") + 3, event.indexOf('\n', event.indexOf("id:")));
+            events.add(name + "#" + id);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
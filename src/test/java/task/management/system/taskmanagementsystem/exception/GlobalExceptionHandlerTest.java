@@ -0,0 +1,75 @@
+package task.management.system.taskmanagementsystem.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import taskmanagementsystem.dto.ErrorResponse;
+import taskmanagementsystem.exception.GlobalExceptionHandler;
+import taskmanagementsystem.exception.TooManyRequestsException;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class GlobalExceptionHandlerTest {
+
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @ParameterizedTest
+    @CsvSource({
+            "comments_task_id_fkey, Task not found",
+            "comments_user_id_fkey, User not found",
+            "tasks_author_id_fkey, User not found",
+            "tasks_assignee_id_fkey, Assignee not found",
+            "TASKS_ASSIGNEE_ID_FKEY, Assignee not found"
+    })
+    void testMissingReferenceIsNotFound(String constraintName, String message) {
+        ResponseEntity<ErrorResponse> response =
+                handler.handleDataIntegrityViolationException(violation(FOREIGN_KEY_VIOLATION, constraintName));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(message, response.getBody().message());
+    }
+
+    @Test
+    void testUnknownForeignKeyIsNotFound() {
+        ResponseEntity<ErrorResponse> response =
+                handler.handleDataIntegrityViolationException(violation(FOREIGN_KEY_VIOLATION, null));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Referenced entity not found", response.getBody().message());
+    }
+
+    @Test
+    void testOtherViolationIsConflict() {
+        ResponseEntity<ErrorResponse> response =
+                handler.handleDataIntegrityViolationException(violation(UNIQUE_VIOLATION, "tasks_title_key"));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Request conflicts with the current state of the data", response.getBody().message());
+    }
+
+    @Test
+    void testTooManyRequestsSendsRetryAfter() {
+        ResponseEntity<ErrorResponse> response = handler.handleTooManyRequestsException(
+                new TooManyRequestsException("Too many sign-in attempts in progress, try again later", Duration.ofSeconds(1)));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    private static DataIntegrityViolationException violation(String sqlState, String constraintName) {
+        SQLException sqlException = new SQLException("violation", sqlState);
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+    }
+}
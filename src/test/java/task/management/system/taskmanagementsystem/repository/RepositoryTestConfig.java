@@ -0,0 +1,13 @@
+package task.management.system.taskmanagementsystem.repository;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import taskmanagementsystem.entity.Task;
+import taskmanagementsystem.repository.TaskRepository;
+
+@SpringBootConfiguration
+@EntityScan(basePackageClasses = Task.class)
+@EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+public class RepositoryTestConfig {
+}
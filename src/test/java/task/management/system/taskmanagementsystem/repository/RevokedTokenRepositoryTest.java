@@ -0,0 +1,55 @@
+package task.management.system.taskmanagementsystem.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import taskmanagementsystem.entity.RevokedToken;
+import taskmanagementsystem.repository.RevokedTokenRepository;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs H2 in PostgreSQL mode, which understands the {@code on conflict do nothing} of {@code revoke}.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:revoked-tokens;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class RevokedTokenRepositoryTest {
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Test
+    void testTokenIsRevokedOnlyOnce() {
+        Instant expiresAt = Instant.now().plus(14, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MILLIS);
+
+        assertEquals(1, revokedTokenRepository.revoke("token-1", expiresAt));
+        assertEquals(0, revokedTokenRepository.revoke("token-1", expiresAt));
+        assertEquals(1, revokedTokenRepository.revoke("token-2", expiresAt));
+
+        RevokedToken revoked = revokedTokenRepository.findById("token-1").orElseThrow();
+        assertEquals(expiresAt, revoked.getExpiresAt());
+        assertEquals(2, revokedTokenRepository.count());
+    }
+
+    @Test
+    void testDeleteExpiredKeepsTokensThatCanStillBeUsed() {
+        Instant now = Instant.now();
+        revokedTokenRepository.revoke("expired", now.minusSeconds(1));
+        revokedTokenRepository.revoke("valid", now.plusSeconds(60));
+
+        assertEquals(1, revokedTokenRepository.deleteExpired(now));
+        assertFalse(revokedTokenRepository.existsById("expired"));
+        assertTrue(revokedTokenRepository.existsById("valid"));
+    }
+}
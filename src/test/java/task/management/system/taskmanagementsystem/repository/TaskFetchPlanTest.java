@@ -0,0 +1,148 @@
+package task.management.system.taskmanagementsystem.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import taskmanagementsystem.config.cache.TaskCacheEvictor;
+import taskmanagementsystem.dto.PaginatedResponse;
+import taskmanagementsystem.dto.task.TaskDto;
+import taskmanagementsystem.dto.task.TaskFilterDto;
+import taskmanagementsystem.entity.*;
+import taskmanagementsystem.event.outbox.DomainEventPublisher;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.mapper.CommentMapperImpl;
+import taskmanagementsystem.mapper.TaskMapperImpl;
+import taskmanagementsystem.service.task.TaskServiceImpl;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({TaskServiceImpl.class, TaskMapperImpl.class, CommentMapperImpl.class, LocalValidatorFactoryBean.class})
+public class TaskFetchPlanTest {
+
+    private static final int TASKS = 12;
+    private static final int COMMENTS_PER_TASK = 3;
+    private static final int MAX_STATEMENTS_PER_PAGE = 4;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private TaskServiceImpl taskService;
+    @MockitoBean
+    private TaskCacheEvictor taskCacheEvictor;
+    @MockitoBean
+    private DomainEventPublisher domainEventPublisher;
+
+    private Statistics statistics;
+    private User admin;
+
+    @BeforeEach
+    void init() {
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        admin = entityManager.persist(User.builder()
+                .email("admin@test.com")
+                .password("password")
+                .role(Role.ADMIN)
+                .build());
+        JwtPrincipal principal = new JwtPrincipal(admin.getId(), admin.getEmail(), Role.ADMIN,
+                Instant.now().plusSeconds(60));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+        for (int i = 0; i < TASKS; i++) {
+            User assignee = entityManager.persist(User.builder()
+                    .email("user%d@test.com".formatted(i))
+                    .password("password")
+                    .role(Role.USER)
+                    .build());
+            Task task = entityManager.persist(Task.builder()
+                    .title("Task %d".formatted(i))
+                    .description("Description")
+                    .status(Status.TODO)
+                    .priority(Priority.HIGH)
+                    .author(admin)
+                    .assignee(assignee)
+                    .build());
+            for (int j = 0; j < COMMENTS_PER_TASK; j++) {
+                entityManager.persist(Comment.builder()
+                        .text("Comment %d".formatted(j))
+                        .task(task)
+                        .user(assignee)
+                        .build());
+            }
+        }
+        entityManager.flush();
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testGetAllTasksStatementCountDoesNotDependOnPageSize() {
+        long smallPageStatements = countStatements(2);
+        long fullPageStatements = countStatements(10);
+
+        assertEquals(smallPageStatements, fullPageStatements);
+        assertTrue(fullPageStatements <= MAX_STATEMENTS_PER_PAGE,
+                "Expected at most %d statements per page but was %d"
+                        .formatted(MAX_STATEMENTS_PER_PAGE, fullPageStatements));
+    }
+
+    @Test
+    void testGetAllTasksLoadsCommentsAndUsers() {
+        entityManager.clear();
+        PaginatedResponse<TaskDto> response = taskService.getAllTasks(admin.getId(), new TaskFilterDto(null, null), 0, 10, null);
+
+        assertEquals(10, response.content().size());
+        assertEquals(TASKS, response.totalElements());
+        response.content().forEach(task -> {
+            assertEquals(admin.getId(), task.authorId());
+            assertNotNull(task.assigneeId());
+            assertEquals(COMMENTS_PER_TASK, task.comments().size());
+        });
+    }
+
+    @Test
+    void testGetAllTasksWithLatestCommentsLoadsOnlyPreview() {
+        entityManager.clear();
+        statistics.clear();
+        PaginatedResponse<TaskDto> response = taskService.getAllTasks(admin.getId(), new TaskFilterDto(null, null), 0, 10, 2);
+
+        assertEquals(10, response.content().size());
+        response.content().forEach(task -> {
+            assertEquals(COMMENTS_PER_TASK, task.commentCount());
+            assertEquals(2, task.comments().size());
+            assertTrue(task.comments().get(0).id() > task.comments().get(1).id());
+        });
+        assertEquals(0, statistics.getCollectionFetchCount());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS_PER_PAGE + 1);
+    }
+
+    private long countStatements(int size) {
+        entityManager.clear();
+        statistics.clear();
+        PaginatedResponse<TaskDto> response = taskService.getAllTasks(admin.getId(), new TaskFilterDto(null, null), 0, size, null);
+        assertEquals(size, response.content().size());
+        return statistics.getPrepareStatementCount();
+    }
+}
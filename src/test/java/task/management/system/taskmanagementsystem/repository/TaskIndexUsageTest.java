@@ -0,0 +1,47 @@
+package task.management.system.taskmanagementsystem.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Sql("classpath:db/changelog/changeset/tms_V002__task_filter_indexes.sql")
+public class TaskIndexUsageTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void testAdminFilterUsesAuthorIndex() {
+        String plan = explain("SELECT t.id FROM tasks t WHERE t.author_id = 1 AND t.status = 'TODO' AND t.priority = 'HIGH'");
+
+        assertTrue(plan.contains("idx_tasks_author_id_status_priority"), plan);
+    }
+
+    @Test
+    void testUserFilterUsesAssigneeIndex() {
+        String plan = explain("SELECT t.id FROM tasks t WHERE t.assignee_id = 1 AND t.status = 'TODO' AND t.priority = 'HIGH'");
+
+        assertTrue(plan.contains("idx_tasks_assignee_id_status_priority"), plan);
+    }
+
+    private String explain(String sql) {
+        List<?> rows = entityManager.getEntityManager()
+                .createNativeQuery("EXPLAIN " + sql)
+                .getResultList();
+        return rows.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining("\n"))
+                .toLowerCase();
+    }
+}
@@ -0,0 +1,72 @@
+package task.management.system.taskmanagementsystem.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.User;
+import taskmanagementsystem.repository.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class UserCacheTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void init() {
+        SessionFactory sessionFactory = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        user = entityManager.persistAndFlush(User.builder()
+                .email("user@test.com")
+                .password("password")
+                .role(Role.USER)
+                .build());
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindByIdIsServedFromSecondLevelCache() {
+        userRepository.findById(user.getId());
+        entityManager.clear();
+        long statements = statistics.getPrepareStatementCount();
+
+        User cached = userRepository.findById(user.getId()).orElseThrow();
+
+        assertEquals("user@test.com", cached.getEmail());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void testLoadByEmailIsServedFromNaturalIdCache() {
+        userRepository.loadByEmail("user@test.com");
+        entityManager.clear();
+        long statements = statistics.getPrepareStatementCount();
+
+        User cached = userRepository.loadByEmail("user@test.com").orElseThrow();
+
+        assertEquals(user.getId(), cached.getId());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+    }
+}
@@ -0,0 +1,194 @@
+package task.management.system.taskmanagementsystem.service;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import taskmanagementsystem.dto.auth.AuthenticationRequest;
+import taskmanagementsystem.dto.auth.AuthenticationResponse;
+import taskmanagementsystem.dto.auth.RefreshTokenRequest;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.User;
+import taskmanagementsystem.exception.InvalidJwtAuthenticationException;
+import taskmanagementsystem.exception.TooManyRequestsException;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.jwt.JwtTokenProvider;
+import taskmanagementsystem.repository.RevokedTokenRepository;
+import taskmanagementsystem.repository.UserRepository;
+import taskmanagementsystem.service.auth.AuthServiceImpl;
+import taskmanagementsystem.service.auth.LoginRateLimiter;
+import taskmanagementsystem.service.auth.PasswordHashingService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordHashingService passwordHashingService;
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+    @Spy
+    private JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(Duration.ofMinutes(15), Duration.ofDays(14));
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+    @InjectMocks
+    private AuthServiceImpl authService;
+
+    private final Set<String> revokedTokens = new HashSet<>();
+    private User user;
+
+    @BeforeEach
+    void init() {
+        user = User.builder()
+                .id(7L)
+                .email("admin@test.com")
+                .password("hash")
+                .role(Role.ADMIN)
+                .build();
+        lenient().when(revokedTokenRepository.revoke(anyString(), any(Instant.class)))
+                .thenAnswer(invocation -> revokedTokens.add(invocation.getArgument(0)) ? 1 : 0);
+        lenient().when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void testLoginRehashesPasswordOfLowerCost() {
+        stubLogin();
+        when(passwordHashingService.needsRehash("hash")).thenReturn(true);
+        when(passwordHashingService.encode("password")).thenReturn("stronger-hash");
+
+        authService.login(new AuthenticationRequest(user.getEmail(), "password"), "10.0.0.1");
+
+        verify(userRepository).updatePassword(user.getId(), "stronger-hash");
+    }
+
+    @Test
+    void testLoginKeepsPasswordOfCurrentCost() {
+        stubLogin();
+
+        AuthenticationResponse response = authService.login(
+                new AuthenticationRequest(user.getEmail(), "password"), "10.0.0.1").getBody();
+
+        assertNotNull(response);
+        verify(userRepository, never()).updatePassword(anyLong(), anyString());
+        verify(passwordHashingService, never()).encode(any());
+    }
+
+    @Test
+    void testLoginWithWrongPasswordDoesNotRehash() {
+        when(userRepository.loadByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("wrong", "hash")).thenReturn(false);
+
+        assertThrows(BadCredentialsException.class,
+                () -> authService.login(new AuthenticationRequest(user.getEmail(), "wrong"), "10.0.0.1"));
+        verify(passwordHashingService, never()).needsRehash(any());
+    }
+
+    @Test
+    void testLoginIsRejectedWhenHashingPoolIsSaturated() {
+        when(userRepository.loadByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("password", "hash"))
+                .thenThrow(new TooManyRequestsException("Too many sign-in attempts in progress, try again later",
+                        Duration.ofSeconds(1)));
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> authService.login(new AuthenticationRequest(user.getEmail(), "password"), "10.0.0.1"));
+        assertEquals(Duration.ofSeconds(1), ex.getRetryAfter());
+    }
+
+    @Test
+    void testRefreshIssuesTokensWithUserIdAndRole() {
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), user.getEmail());
+
+        AuthenticationResponse response = authService.refresh(new RefreshTokenRequest(refreshToken)).getBody();
+
+        assertNotNull(response);
+        Claims claims = jwtTokenProvider.parseClaims(response.token());
+        assertEquals(7, ((Number) claims.get("uid")).intValue());
+        assertEquals("ADMIN", claims.get("role"));
+        JwtPrincipal principal = jwtTokenProvider.parseAccessToken(response.token());
+        assertEquals(user.getId(), principal.userId());
+        assertEquals(Role.ADMIN, principal.role());
+        assertNotEquals(jwtTokenProvider.parseRefreshToken(refreshToken).getId(),
+                jwtTokenProvider.parseRefreshToken(response.refreshToken()).getId());
+    }
+
+    @Test
+    void testRefreshTokenCanBeUsedOnlyOnce() {
+        RefreshTokenRequest request = new RefreshTokenRequest(
+                jwtTokenProvider.createRefreshToken(user.getId(), user.getEmail()));
+        authService.refresh(request);
+
+        assertThrows(InvalidJwtAuthenticationException.class, () -> authService.refresh(request));
+        verify(userRepository, times(1)).findById(user.getId());
+    }
+
+    @Test
+    void testRefreshIsRevokedUntilTokenExpires() {
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), user.getEmail());
+        Claims claims = jwtTokenProvider.parseRefreshToken(refreshToken);
+
+        authService.refresh(new RefreshTokenRequest(refreshToken));
+
+        verify(revokedTokenRepository).revoke(eq(claims.getId()), eq(claims.getExpiration().toInstant()));
+    }
+
+    @Test
+    void testLoggedOutRefreshTokenIsRejected() {
+        RefreshTokenRequest request = new RefreshTokenRequest(
+                jwtTokenProvider.createRefreshToken(user.getId(), user.getEmail()));
+
+        authService.logout(request);
+
+        assertThrows(InvalidJwtAuthenticationException.class, () -> authService.refresh(request));
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testLogoutOfRevokedTokenSucceeds() {
+        RefreshTokenRequest request = new RefreshTokenRequest(
+                jwtTokenProvider.createRefreshToken(user.getId(), user.getEmail()));
+        authService.logout(request);
+
+        assertDoesNotThrow(() -> authService.logout(request));
+    }
+
+    @Test
+    void testRefreshTokenIsNotAcceptedAsAccessToken() {
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), user.getEmail());
+
+        assertThrows(InvalidJwtAuthenticationException.class, () -> jwtTokenProvider.parseAccessToken(refreshToken));
+    }
+
+    @Test
+    void testAccessTokenIsNotAcceptedAsRefreshToken() {
+        String accessToken = jwtTokenProvider.createToken(user.getId(), user.getEmail(), user.getRole());
+
+        assertThrows(InvalidJwtAuthenticationException.class,
+                () -> authService.refresh(new RefreshTokenRequest(accessToken)));
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    private void stubLogin() {
+        when(userRepository.loadByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("password", "hash")).thenReturn(true);
+    }
+}
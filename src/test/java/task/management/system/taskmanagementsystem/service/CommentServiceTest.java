@@ -1,6 +1,7 @@
 package task.management.system.taskmanagementsystem.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,18 +9,30 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import taskmanagementsystem.config.cache.TaskCacheEvictor;
+import taskmanagementsystem.dto.CursorPaginatedResponse;
 import taskmanagementsystem.dto.comment.CommentCreateDto;
 import taskmanagementsystem.dto.comment.CommentDto;
 import taskmanagementsystem.entity.Comment;
+import taskmanagementsystem.entity.Role;
 import taskmanagementsystem.entity.Task;
 import taskmanagementsystem.entity.User;
+import taskmanagementsystem.event.CommentDeleted;
+import taskmanagementsystem.event.outbox.DomainEventPublisher;
+import taskmanagementsystem.exception.UserRoleException;
+import taskmanagementsystem.jwt.JwtPrincipal;
 import taskmanagementsystem.mapper.CommentMapper;
 import taskmanagementsystem.repository.CommentRepository;
 import taskmanagementsystem.repository.TaskRepository;
 import taskmanagementsystem.repository.UserRepository;
 import taskmanagementsystem.service.comment.CommentServiceImpl;
+import taskmanagementsystem.service.pagination.CursorCodec;
 
-import java.util.ArrayList;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +48,10 @@ public class CommentServiceTest {
     private TaskRepository taskRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private TaskCacheEvictor taskCacheEvictor;
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
     @Spy
     private CommentMapper commentMapper;
     @InjectMocks
@@ -59,16 +76,23 @@ public class CommentServiceTest {
         comment = new Comment();
         comment.setId(commentId);
         comment.setText("This is a comment");
+        comment.setTask(task);
         commentCreateDto = new CommentCreateDto(userId, taskId, "This is a comment");
     }
 
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void testCreateCommentSuccess() {
         commentCreateDto = new CommentCreateDto(userId, taskId, "This is a comment");
         commentDto = new CommentDto(commentId, userId, taskId, "This is a comment");
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        authenticate(userId);
+        when(userRepository.getReferenceById(userId)).thenReturn(user);
+        when(taskRepository.getReferenceById(taskId)).thenReturn(task);
         when(commentMapper.toComment(commentCreateDto)).thenReturn(comment);
         when(commentMapper.toCommentDto(comment)).thenReturn(commentDto);
         when(commentRepository.save(comment)).thenReturn(comment);
@@ -78,36 +102,37 @@ public class CommentServiceTest {
         assertNotNull(result);
         assertEquals(commentDto.id(), result.id());
         assertEquals(commentDto.text(), result.text());
-        verify(userRepository).findById(userId);
-        verify(taskRepository).findById(taskId);
+        assertSame(user, comment.getUser());
+        assertSame(task, comment.getTask());
+        verify(userRepository, never()).findById(any());
+        verify(taskRepository, never()).findById(any());
         verify(commentRepository).save(comment);
         verify(commentMapper).toComment(commentCreateDto);
         verify(commentMapper).toCommentDto(comment);
     }
 
     @Test
-    void testCreateCommentUserNotFoundException() {
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
-        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
-                () -> commentService.createComment(commentCreateDto));
+    void testCreateCommentOnMissingTaskFailsOnInsert() {
+        authenticate(userId);
+        when(userRepository.getReferenceById(userId)).thenReturn(user);
+        when(taskRepository.getReferenceById(taskId)).thenReturn(task);
+        when(commentMapper.toComment(commentCreateDto)).thenReturn(comment);
+        when(commentRepository.save(comment)).thenThrow(new DataIntegrityViolationException("comments_task_id_fkey"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> commentService.createComment(commentCreateDto));
 
-        assertEquals("User with id 1 not found", exception.getMessage());
-        verify(userRepository).findById(userId);
-        verifyNoInteractions(taskRepository, commentRepository, commentMapper);
+        verifyNoInteractions(domainEventPublisher);
     }
 
     @Test
-    void testCreateCommentTaskNotFoundException() {
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+    void testCreateCommentAsAnotherUserThrowsException() {
+        authenticate(5L);
 
-        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+        UserRoleException exception = assertThrows(UserRoleException.class,
                 () -> commentService.createComment(commentCreateDto));
 
-        assertEquals("Task with id 2 not found", exception.getMessage());
-        verify(userRepository).findById(userId);
-        verify(taskRepository).findById(taskId);
-        verifyNoInteractions(commentRepository, commentMapper);
+        assertEquals("Not allowed to act as user with id 1", exception.getMessage());
+        verifyNoInteractions(commentRepository, userRepository);
     }
 
     @Test
@@ -117,6 +142,9 @@ public class CommentServiceTest {
 
         verify(commentRepository).findById(commentId);
         verify(commentRepository).delete(comment);
+        verify(taskCacheEvictor).evictTask(taskId);
+        verify(taskCacheEvictor).evictComments(taskId);
+        verify(domainEventPublisher).publish(new CommentDeleted(taskId, commentId));
     }
 
     @Test
@@ -132,13 +160,14 @@ public class CommentServiceTest {
 
     @Test
     void testGetCommentsByTaskIdSuccess() {
-        task.setComments(new ArrayList<>(List.of(
-                new Comment(1L, "Comment 1", task, null),
-                new Comment(2L, "Comment 2", task, null))));
-        List<CommentDto> expectedDtos = task.getComments().stream()
+        List<Comment> comments = List.of(
+                Comment.builder().id(1L).text("Comment 1").task(task).build(),
+                Comment.builder().id(2L).text("Comment 2").task(task).build());
+        List<CommentDto> expectedDtos = comments.stream()
                 .map(c -> new CommentDto(c.getId(), userId, taskId, c.getText()))
                 .toList();
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.existsById(taskId)).thenReturn(true);
+        when(commentRepository.findByTaskIdOrderById(taskId)).thenReturn(comments);
         when(commentMapper.toCommentDto(any(Comment.class))).thenAnswer(invocation -> {
             Comment c = invocation.getArgument(0);
             return new CommentDto(c.getId(), userId, taskId, c.getText());
@@ -150,7 +179,43 @@ public class CommentServiceTest {
         assertEquals(expectedDtos.size(), result.size());
         assertEquals(expectedDtos.get(0).text(), result.get(0).text());
         assertEquals(expectedDtos.get(1).text(), result.get(1).text());
-        verify(taskRepository).findById(taskId);
-        verify(commentMapper, times(task.getComments().size())).toCommentDto(any(Comment.class));
+        verify(taskRepository).existsById(taskId);
+        verify(taskRepository, never()).findById(taskId);
+        verify(commentMapper, times(comments.size())).toCommentDto(any(Comment.class));
+    }
+
+    @Test
+    void testScrollCommentsReturnsCursorOfLastComment() {
+        List<Comment> comments = List.of(
+                Comment.builder().id(1L).text("Comment 1").task(task).build(),
+                Comment.builder().id(2L).text("Comment 2").task(task).build(),
+                Comment.builder().id(3L).text("Comment 3").task(task).build());
+        when(taskRepository.existsById(taskId)).thenReturn(true);
+        when(commentRepository.findByTaskIdAndIdGreaterThanOrderById(taskId, 0L, PageRequest.of(0, 3)))
+                .thenReturn(comments);
+        when(commentMapper.toCommentDto(any(Comment.class))).thenAnswer(invocation -> {
+            Comment c = invocation.getArgument(0);
+            return new CommentDto(c.getId(), userId, taskId, c.getText());
+        });
+
+        CursorPaginatedResponse<CommentDto> result = commentService.scrollComments(taskId, null, 2);
+
+        assertEquals(2, result.content().size());
+        assertFalse(result.last());
+        assertEquals(CursorCodec.encode(2L), result.nextCursor());
+    }
+
+    @Test
+    void testScrollCommentsTaskNotFound() {
+        when(taskRepository.existsById(taskId)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> commentService.scrollComments(taskId, null, 10));
+        verifyNoInteractions(commentRepository);
+    }
+
+    private void authenticate(Long id) {
+        JwtPrincipal principal = new JwtPrincipal(id, "user@test.com", Role.USER, Instant.now().plusSeconds(60));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
     }
-}
\ No newline at end of file
+}
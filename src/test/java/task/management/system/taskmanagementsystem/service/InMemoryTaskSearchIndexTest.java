@@ -0,0 +1,80 @@
+package task.management.system.taskmanagementsystem.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.User;
+import taskmanagementsystem.service.search.InMemoryTaskSearchIndex;
+import taskmanagementsystem.service.search.TaskSearchHits;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class InMemoryTaskSearchIndexTest {
+
+    private final Long adminId = 1L;
+    private final Long assigneeId = 2L;
+
+    private InMemoryTaskSearchIndex searchIndex;
+    private User admin;
+    private User assignee;
+
+    @BeforeEach
+    void init() {
+        searchIndex = new InMemoryTaskSearchIndex();
+        admin = User.builder().id(adminId).role(Role.ADMIN).build();
+        assignee = User.builder().id(assigneeId).role(Role.USER).build();
+        searchIndex.indexTask(10L, "Fix login page", "Users cannot sign in", adminId, assigneeId);
+        searchIndex.indexTask(11L, "Update docs", "Describe the login flow", adminId, null);
+        searchIndex.indexTask(12L, "Login audit", "Someone else's task", 3L, null);
+    }
+
+    @Test
+    void testSearchRanksTitleMatchesFirst() {
+        TaskSearchHits hits = searchIndex.search("LOGIN", admin, 0, 10);
+
+        assertEquals(List.of(10L, 11L), hits.taskIds());
+        assertEquals(2, hits.total());
+    }
+
+    @Test
+    void testSearchRequiresEveryWord() {
+        TaskSearchHits hits = searchIndex.search("login flow", admin, 0, 10);
+
+        assertEquals(List.of(11L), hits.taskIds());
+    }
+
+    @Test
+    void testSearchIsScopedToAssignee() {
+        TaskSearchHits hits = searchIndex.search("login", assignee, 0, 10);
+
+        assertEquals(List.of(10L), hits.taskIds());
+    }
+
+    @Test
+    void testSearchFindsCommentsUntilRemoved() {
+        searchIndex.indexComment(11L, 100L, "Needs screenshots");
+
+        assertEquals(List.of(11L), searchIndex.search("screenshots", admin, 0, 10).taskIds());
+
+        searchIndex.removeComment(11L, 100L);
+
+        assertEquals(0, searchIndex.search("screenshots", admin, 0, 10).total());
+    }
+
+    @Test
+    void testSearchPaginates() {
+        TaskSearchHits hits = searchIndex.search("login", admin, 1, 1);
+
+        assertEquals(List.of(11L), hits.taskIds());
+        assertEquals(2, hits.total());
+    }
+
+    @Test
+    void testRemovedTaskIsNotFound() {
+        searchIndex.removeTask(10L);
+
+        assertEquals(List.of(11L), searchIndex.search("login", admin, 0, 10).taskIds());
+    }
+}
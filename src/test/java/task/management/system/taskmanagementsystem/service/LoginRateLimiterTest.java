@@ -0,0 +1,47 @@
+package task.management.system.taskmanagementsystem.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import taskmanagementsystem.exception.TooManyRequestsException;
+import taskmanagementsystem.service.auth.LoginRateLimiter;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginRateLimiter rateLimiter;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new LoginRateLimiter(meterRegistry, 1000,
+                3, Duration.ofHours(1),
+                5, Duration.ofHours(1));
+    }
+
+    @Test
+    void testEmailIsThrottledAfterCapacity() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquire("user@test.com", "10.0.0." + i);
+        }
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.acquire("USER@test.com", "10.0.0.9"));
+        assertTrue(ex.getRetryAfter().toSeconds() > 0);
+        assertEquals(1, meterRegistry.get("auth.login.throttled").tag("key", "email").counter().count());
+    }
+
+    @Test
+    void testAddressIsThrottledAcrossEmails() {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire("user%d@test.com".formatted(i), "10.0.0.1");
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> rateLimiter.acquire("other@test.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> rateLimiter.acquire("other@test.com", "10.0.0.2"));
+    }
+}
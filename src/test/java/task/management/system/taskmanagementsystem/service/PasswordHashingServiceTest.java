@@ -0,0 +1,102 @@
+package task.management.system.taskmanagementsystem.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import taskmanagementsystem.exception.TooManyRequestsException;
+import taskmanagementsystem.service.auth.PasswordHashingService;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PasswordHashingServiceTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService hashingService;
+
+    @BeforeEach
+    void init() {
+        lenient().when(passwordEncoder.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+    }
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        hashingService.destroy();
+    }
+
+    @Test
+    void testHashIsComputedOnPool() {
+        hashingService = new PasswordHashingService(passwordEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5));
+        release.countDown();
+
+        assertEquals("hash", hashingService.encode("password"));
+    }
+
+    @Test
+    void testSaturatedPoolIsRejectedWithRetryAfter() throws Exception {
+        hashingService = new PasswordHashingService(passwordEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5));
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hashingService.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hashingService.encode("second"));
+        awaitQueued(1);
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> hashingService.encode("third"));
+
+        assertEquals(Duration.ofSeconds(1), ex.getRetryAfter());
+        assertEquals(1, meterRegistry.get("auth.hashing.rejected").counter().count());
+        release.countDown();
+        assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testSlowHashIsRejectedWithRetryAfter() {
+        hashingService = new PasswordHashingService(passwordEncoder, meterRegistry, 1, 1, Duration.ofMillis(50));
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> hashingService.encode("password"));
+
+        assertEquals(Duration.ofSeconds(1), ex.getRetryAfter());
+        assertEquals(1, meterRegistry.get("auth.hashing.rejected").counter().count());
+    }
+
+    @Test
+    void testEncoderFailureIsRethrown() {
+        hashingService = new PasswordHashingService(passwordEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5));
+        when(passwordEncoder.matches(any(), any())).thenThrow(new IllegalArgumentException("Invalid hash"));
+
+        assertThrows(IllegalArgumentException.class, () -> hashingService.matches("password", "hash"));
+        assertEquals(0, meterRegistry.get("auth.hashing.rejected").counter().count());
+    }
+
+    private void awaitQueued(int tasks) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge().value() < tasks) {
+            assertTrue(System.nanoTime() < deadline, "Hash was not queued");
+            Thread.sleep(10);
+        }
+    }
+}
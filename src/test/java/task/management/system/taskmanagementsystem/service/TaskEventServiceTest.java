@@ -0,0 +1,64 @@
+package task.management.system.taskmanagementsystem.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.event.stream.TaskEventBroadcaster;
+import taskmanagementsystem.exception.UserRoleException;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.service.task.TaskEventServiceImpl;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskEventServiceTest {
+
+    @Mock
+    private TaskEventBroadcaster taskEventBroadcaster;
+    @InjectMocks
+    private TaskEventServiceImpl taskEventService;
+
+    private final Long userId = 1L;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testSubscribeAsAuthenticatedUser() {
+        authenticate(userId);
+        SseEmitter emitter = new SseEmitter();
+        when(taskEventBroadcaster.subscribe(
+                argThat(user -> userId.equals(user.getId()) && user.getRole() == Role.USER), eq(4L)))
+                .thenReturn(emitter);
+
+        assertSame(emitter, taskEventService.subscribe(userId, 4L));
+    }
+
+    @Test
+    void testSubscribeAsAnotherUserIsForbidden() {
+        authenticate(2L);
+
+        assertThrows(UserRoleException.class, () -> taskEventService.subscribe(userId, null));
+        verifyNoInteractions(taskEventBroadcaster);
+    }
+
+    private void authenticate(Long id) {
+        JwtPrincipal principal = new JwtPrincipal(id, "user@test.com", Role.USER, Instant.now().plusSeconds(60));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+    }
+}
@@ -0,0 +1,200 @@
+package task.management.system.taskmanagementsystem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import taskmanagementsystem.dto.task.TaskExportDto;
+import taskmanagementsystem.dto.task.TaskExportFormat;
+import taskmanagementsystem.dto.task.TaskFilterDto;
+import taskmanagementsystem.entity.Priority;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.Status;
+import taskmanagementsystem.entity.Task;
+import taskmanagementsystem.exception.UserRoleException;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.mapper.TaskMapper;
+import taskmanagementsystem.repository.TaskRepository;
+import taskmanagementsystem.service.task.TaskExportServiceImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskExportServiceTest {
+
+    private static final int FETCH_SIZE = 500;
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskMapper taskMapper;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private EntityManager entityManager;
+    @InjectMocks
+    private TaskExportServiceImpl taskExportService;
+
+    private final Long userId = 1L;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(taskExportService, "entityManager", entityManager);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testExportTasksOfAnotherUserIsForbidden() {
+        authenticate(2L);
+
+        assertThrows(UserRoleException.class, () -> taskExportService.exportTasks(userId,
+                new TaskFilterDto(null, null), TaskExportFormat.NDJSON));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testExportTasksAsNdjson() throws Exception {
+        authenticate(userId);
+        stubTasks(row(1L, "First", "Plain"), row(2L, "Second", null));
+
+        String output = export(TaskExportFormat.NDJSON);
+
+        String[] lines = output.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(row(1L, "First", "Plain"), objectMapper.readValue(lines[0], TaskExportDto.class));
+        assertEquals(row(2L, "Second", null), objectMapper.readValue(lines[1], TaskExportDto.class));
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testExportTasksAsCsvQuotesSpecialCharacters() {
+        authenticate(userId);
+        stubTasks(row(1L, "Plain", null),
+                row(2L, "Comma, inside", "Say \"hi\""),
+                row(3L, "Two\nlines", "Carriage\rreturn"));
+
+        String output = export(TaskExportFormat.CSV);
+
+        assertEquals("""
+                id,title,description,status,priority,authorId,assigneeId
+                1,Plain,,TODO,HIGH,1,2
+                2,"Comma, inside","Say ""hi""",TODO,HIGH,1,2
+                3,"Two
+                lines","Carriage\rreturn",TODO,HIGH,1,2
+                """, output);
+    }
+
+    @Test
+    void testExportTasksWithoutTasksWritesOnlyCsvHeader() {
+        authenticate(userId);
+        stubTasks();
+
+        String output = export(TaskExportFormat.CSV);
+
+        assertEquals("id,title,description,status,priority,authorId,assigneeId\n", output);
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExportTasksAppliesVisibilityAndFilter() {
+        authenticate(userId);
+        stubTasks();
+
+        taskExportService.exportTasks(userId, new TaskFilterDto(Status.COMPLETED, Priority.LOW), TaskExportFormat.CSV)
+                .writeTo(new ByteArrayOutputStream());
+
+        ArgumentCaptor<Specification<Task>> spec = ArgumentCaptor.forClass(Specification.class);
+        verify(taskRepository).streamAll(spec.capture(), eq(FETCH_SIZE));
+        Root<Task> root = mock(Root.class, RETURNS_DEEP_STUBS);
+        CriteriaBuilder criteriaBuilder = mock(CriteriaBuilder.class);
+        spec.getValue().toPredicate(root, mock(CriteriaQuery.class), criteriaBuilder);
+        verify(criteriaBuilder).equal(root.get("assignee").get("id"), userId);
+        verify(criteriaBuilder).equal(root.get("status"), Status.COMPLETED);
+        verify(criteriaBuilder).equal(root.get("priority"), Priority.LOW);
+    }
+
+    @Test
+    void testExportTasksClearsPersistenceContextPerChunk() {
+        authenticate(userId);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(taskRepository.streamAll(any(), anyInt())).thenReturn(LongStream.rangeClosed(1, 2 * FETCH_SIZE + 1)
+                .mapToObj(id -> Task.builder().id(id).build())
+                .onClose(() -> closed.set(true)));
+        when(taskMapper.toTaskExportDto(any(Task.class)))
+                .thenAnswer(invocation -> row(invocation.<Task>getArgument(0).getId(), "Task", null));
+
+        String output = export(TaskExportFormat.NDJSON);
+
+        assertEquals(2 * FETCH_SIZE + 1, output.lines().count());
+        verify(taskRepository).streamAll(any(), eq(FETCH_SIZE));
+        verify(entityManager, times(3)).clear();
+        assertTrue(closed.get());
+    }
+
+    private String export(TaskExportFormat format) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            taskExportService.exportTasks(userId, new TaskFilterDto(null, null), format).writeTo(outputStream);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private void stubTasks(TaskExportDto... rows) {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        Task[] tasks = Stream.of(rows).map(row -> Task.builder().id(row.id()).build()).toArray(Task[]::new);
+        when(taskRepository.streamAll(any(), anyInt())).thenReturn(Stream.of(tasks));
+        for (int i = 0; i < rows.length; i++) {
+            when(taskMapper.toTaskExportDto(tasks[i])).thenReturn(rows[i]);
+        }
+    }
+
+    private static TaskExportDto row(Long id, String title, String description) {
+        return new TaskExportDto(id, title, description, Status.TODO, Priority.HIGH, 1L, 2L);
+    }
+
+    private void authenticate(Long id) {
+        JwtPrincipal principal = new JwtPrincipal(id, "user@test.com", Role.USER, Instant.now().plusSeconds(60));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+    }
+}
@@ -0,0 +1,103 @@
+package task.management.system.taskmanagementsystem.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import taskmanagementsystem.config.cache.TaskCacheEvictor;
+import taskmanagementsystem.dto.task.TaskOwnersDto;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.event.TaskDeleted;
+import taskmanagementsystem.event.outbox.DomainEventPublisher;
+import taskmanagementsystem.exception.UserRoleException;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.repository.TaskRepository;
+import taskmanagementsystem.service.task.TaskPurgeServiceImpl;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskPurgeServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskCacheEvictor taskCacheEvictor;
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Long userId = 1L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskPurgeServiceImpl taskPurgeService;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskPurgeService = new TaskPurgeServiceImpl(taskRepository, taskCacheEvictor,
+                domainEventPublisher, transactionManager, Runnable::run, meterRegistry, 2);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testPurgeDeletesInChunksUntilNoneAreLeft() {
+        authenticate(userId, Role.ADMIN);
+        when(taskRepository.deleteByAuthorIdReturningOwners(userId, 2)).thenReturn(
+                List.of(new TaskOwnersDto(10L, userId, null), new TaskOwnersDto(11L, userId, 3L)),
+                List.of(new TaskOwnersDto(12L, userId, null)));
+
+        taskPurgeService.purgeTasks(userId);
+
+        verify(taskRepository, times(2)).deleteByAuthorIdReturningOwners(userId, 2);
+        verify(transactionManager, times(2)).commit(any());
+        verify(domainEventPublisher).publish(new TaskDeleted(11L, userId, 3L));
+        verify(domainEventPublisher, times(3)).publish(any());
+        verify(taskCacheEvictor).evictComments(12L);
+        assertEquals(3, meterRegistry.get("tasks.purged").counter().count());
+    }
+
+    @Test
+    void testPurgeByNonAdminThrowsException() {
+        authenticate(userId, Role.USER);
+
+        UserRoleException exception = assertThrows(UserRoleException.class,
+                () -> taskPurgeService.purgeTasks(userId));
+
+        assertEquals("Only admin can create or delete a task", exception.getMessage());
+        verifyNoInteractions(taskRepository, transactionManager);
+    }
+
+    @Test
+    void testPurgeOfAnotherUsersTasksThrowsException() {
+        authenticate(2L, Role.ADMIN);
+
+        UserRoleException exception = assertThrows(UserRoleException.class,
+                () -> taskPurgeService.purgeTasks(userId));
+
+        assertEquals("Not allowed to act as user with id 1", exception.getMessage());
+        verifyNoInteractions(taskRepository, transactionManager);
+    }
+
+    private void authenticate(Long id, Role role) {
+        JwtPrincipal principal = new JwtPrincipal(id, "user@test.com", role, Instant.now().plusSeconds(60));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+    }
+}
@@ -0,0 +1,79 @@
+package task.management.system.taskmanagementsystem.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import taskmanagementsystem.entity.Comment;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.Task;
+import taskmanagementsystem.entity.User;
+import taskmanagementsystem.event.CommentAdded;
+import taskmanagementsystem.event.CommentDeleted;
+import taskmanagementsystem.event.TaskDeleted;
+import taskmanagementsystem.event.TaskUpdated;
+import taskmanagementsystem.repository.CommentRepository;
+import taskmanagementsystem.repository.TaskRepository;
+import taskmanagementsystem.service.search.InMemoryTaskSearchIndex;
+import taskmanagementsystem.service.search.TaskSearchIndexUpdater;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskSearchIndexUpdaterTest {
+
+    private final Long taskId = 10L;
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private CommentRepository commentRepository;
+
+    private InMemoryTaskSearchIndex searchIndex;
+    private TaskSearchIndexUpdater updater;
+    private User admin;
+    private Task task;
+
+    @BeforeEach
+    void init() {
+        searchIndex = new InMemoryTaskSearchIndex();
+        updater = new TaskSearchIndexUpdater(searchIndex, taskRepository, commentRepository);
+        admin = User.builder().id(1L).role(Role.ADMIN).build();
+        task = Task.builder().id(taskId).title("Fix login page").description("Users cannot sign in").author(admin).build();
+        searchIndex.indexTask(taskId, "Old title", "Old description", 1L, null);
+    }
+
+    @Test
+    void testUpdatedTaskIsIndexedAsStored() {
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+
+        updater.onEvent(1L, new TaskUpdated(taskId, null));
+
+        assertEquals(List.of(taskId), searchIndex.search("login", admin, 0, 10).taskIds());
+        assertEquals(List.of(), searchIndex.search("old", admin, 0, 10).taskIds());
+    }
+
+    @Test
+    void testDeletedTaskIsRemoved() {
+        updater.onEvent(1L, new TaskDeleted(taskId, 1L, null));
+
+        assertEquals(List.of(), searchIndex.search("old", admin, 0, 10).taskIds());
+    }
+
+    @Test
+    void testCommentsAreIndexedUntilDeleted() {
+        when(commentRepository.findById(100L)).thenReturn(Optional.of(
+                Comment.builder().id(100L).text("Needs screenshots").task(task).build()));
+
+        updater.onEvent(1L, new CommentAdded(taskId, 100L, 1L));
+        assertEquals(List.of(taskId), searchIndex.search("screenshots", admin, 0, 10).taskIds());
+
+        updater.onEvent(2L, new CommentDeleted(taskId, 100L));
+        assertEquals(List.of(), searchIndex.search("screenshots", admin, 0, 10).taskIds());
+    }
+}
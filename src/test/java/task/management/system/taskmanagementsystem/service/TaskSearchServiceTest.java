@@ -0,0 +1,84 @@
+package task.management.system.taskmanagementsystem.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import taskmanagementsystem.dto.PaginatedResponse;
+import taskmanagementsystem.dto.task.TaskDto;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.Task;
+import taskmanagementsystem.entity.User;
+import taskmanagementsystem.exception.UserRoleException;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.mapper.TaskMapper;
+import taskmanagementsystem.repository.TaskRepository;
+import taskmanagementsystem.service.search.TaskSearchHits;
+import taskmanagementsystem.service.search.TaskSearchIndex;
+import taskmanagementsystem.service.task.TaskSearchServiceImpl;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskSearchServiceTest {
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskMapper taskMapper;
+    @InjectMocks
+    private TaskSearchServiceImpl taskSearchService;
+
+    private final Long userId = 1L;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testSearchTasksKeepsRankingOrder() {
+        authenticate(userId);
+        Task first = Task.builder().id(3L).build();
+        Task second = Task.builder().id(5L).build();
+        TaskDto firstDto = new TaskDto(3L, "first", "", null, null, userId, null, List.of(), 0L, 0L);
+        TaskDto secondDto = new TaskDto(5L, "second", "", null, null, userId, null, List.of(), 0L, 0L);
+        when(taskSearchIndex.search(eq("report"), argThat(user -> userId.equals(user.getId())), eq(0), eq(2)))
+                .thenReturn(new TaskSearchHits(List.of(5L, 3L), 3));
+        when(taskRepository.findAllWithCommentsByIdIn(List.of(5L, 3L))).thenReturn(List.of(first, second));
+        when(taskMapper.toTaskDto(first)).thenReturn(firstDto);
+        when(taskMapper.toTaskDto(second)).thenReturn(secondDto);
+
+        PaginatedResponse<TaskDto> result = taskSearchService.searchTasks(userId, "report", 0, 2);
+
+        assertEquals(List.of(secondDto, firstDto), result.content());
+        assertEquals(2, result.totalPages());
+    }
+
+    @Test
+    void testSearchTasksOfAnotherUserIsForbidden() {
+        authenticate(2L);
+
+        assertThrows(UserRoleException.class, () -> taskSearchService.searchTasks(userId, "report", 0, 10));
+        verify(taskSearchIndex, never()).search(any(), any(User.class), anyInt(), anyInt());
+    }
+
+    private void authenticate(Long id) {
+        JwtPrincipal principal = new JwtPrincipal(id, "user@test.com", Role.USER, Instant.now().plusSeconds(60));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+    }
+}
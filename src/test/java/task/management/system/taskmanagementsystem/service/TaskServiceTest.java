@@ -1,23 +1,44 @@
 package task.management.system.taskmanagementsystem.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import taskmanagementsystem.config.cache.TaskCacheEvictor;
+import taskmanagementsystem.dto.task.TaskBatchItemStatus;
+import taskmanagementsystem.dto.task.TaskBatchResponse;
 import taskmanagementsystem.dto.task.TaskCreateDto;
 import taskmanagementsystem.dto.task.TaskDto;
 import taskmanagementsystem.dto.task.TaskFilterDto;
+import taskmanagementsystem.dto.task.TaskOwnersDto;
 import taskmanagementsystem.dto.task.TaskUpdateDto;
+import taskmanagementsystem.dto.task.TaskUpdateResultDto;
 import taskmanagementsystem.entity.*;
+import taskmanagementsystem.event.TaskCreated;
+import taskmanagementsystem.event.TaskDeleted;
+import taskmanagementsystem.event.TaskUpdated;
+import taskmanagementsystem.event.outbox.DomainEventPublisher;
+import taskmanagementsystem.exception.PreconditionFailedException;
 import taskmanagementsystem.exception.UserRoleException;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.mapper.CommentMapper;
 import taskmanagementsystem.mapper.TaskMapper;
+import taskmanagementsystem.repository.CommentRepository;
 import taskmanagementsystem.repository.TaskRepository;
 import taskmanagementsystem.repository.UserRepository;
 import taskmanagementsystem.service.task.TaskServiceImpl;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +53,16 @@ public class TaskServiceTest {
     private TaskMapper taskMapper;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private TaskCacheEvictor taskCacheEvictor;
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private CommentMapper commentMapper;
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -75,15 +106,23 @@ public class TaskServiceTest {
                 Priority.HIGH,
                 userId,
                 assigneeId,
-                null
+                null,
+                null,
+                0L
         );
     }
 
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void testCreateTaskSuccess() {
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        authenticate(user);
         when(taskMapper.toTask(taskCreateDto)).thenReturn(task);
-        when(userRepository.findById(assigneeId)).thenReturn(Optional.of(assignee));
+        when(userRepository.getReferenceById(userId)).thenReturn(user);
+        when(userRepository.getReferenceById(assigneeId)).thenReturn(assignee);
         when(taskMapper.toTaskDto(task)).thenReturn(taskDto);
         when(taskRepository.save(task)).thenReturn(task);
 
@@ -92,20 +131,23 @@ public class TaskServiceTest {
         assertNotNull(result);
         assertEquals(taskDto.id(), result.id());
         assertEquals(taskDto.title(), result.title());
-        verify(userRepository).findById(userId);
         verify(taskMapper).toTask(taskCreateDto);
         verify(taskMapper).toTaskDto(task);
         verify(taskRepository).save(task);
+        verify(userRepository, never()).findById(assigneeId);
+        assertSame(user, task.getAuthor());
+        assertSame(assignee, task.getAssignee());
+        verify(domainEventPublisher).publish(new TaskCreated(taskId, userId, assigneeId));
     }
 
     @Test
-    void testCreateTaskUserNotFoundException() {
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
-        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+    void testCreateTaskAsAnotherUserThrowsException() {
+        authenticate(assignee);
+        UserRoleException exception = assertThrows(UserRoleException.class,
                 () -> taskService.createTask(taskCreateDto));
 
-        assertEquals("User with id 1 not found", exception.getMessage());
-        verify(userRepository).findById(userId);
+        assertEquals("Not allowed to act as user with id 1", exception.getMessage());
+        verifyNoInteractions(taskRepository, userRepository);
     }
 
     @Test
@@ -114,13 +156,63 @@ public class TaskServiceTest {
         user.setId(userId);
         user.setRole(Role.USER);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        authenticate(user);
 
         UserRoleException exception = assertThrows(UserRoleException.class,
                 () -> taskService.createTask(taskCreateDto));
 
         assertEquals("Only admin can create or delete a task", exception.getMessage());
-        verify(userRepository).findById(userId);
+    }
+
+    @Test
+    void testCreateTasksReportsEveryItem() {
+        authenticate(user);
+        TaskCreateDto otherAuthorDto = new TaskCreateDto(
+                "Other Task",
+                "This is another task",
+                Status.TODO,
+                Priority.LOW,
+                42L,
+                null
+        );
+        TaskCreateDto longTitleDto = new TaskCreateDto(
+                "x".repeat(65),
+                "d".repeat(1025),
+                Status.TODO,
+                Priority.LOW,
+                userId,
+                null
+        );
+        when(userRepository.getReferenceById(userId)).thenReturn(user);
+        when(userRepository.findAllById(any())).thenReturn(List.of(assignee));
+        when(taskRepository.findExistingTitles(any())).thenReturn(List.of());
+        when(taskMapper.toTask(taskCreateDto)).thenReturn(task);
+
+        TaskBatchResponse result = taskService.createTasks(List.of(taskCreateDto, otherAuthorDto, longTitleDto));
+
+        assertEquals(1, result.succeeded());
+        assertEquals(2, result.failed());
+        assertEquals(TaskBatchItemStatus.CREATED, result.results().get(0).status());
+        assertEquals(taskId, result.results().get(0).taskId());
+        assertSame(user, task.getAuthor());
+        assertEquals(TaskBatchItemStatus.FAILED, result.results().get(1).status());
+        assertEquals("Not allowed to act as user with id 42", result.results().get(1).error());
+        assertEquals(TaskBatchItemStatus.FAILED, result.results().get(2).status());
+        assertEquals("description size must be between 0 and 1024, title size must be between 0 and 64",
+                result.results().get(2).error());
+        verify(taskRepository).saveAll(List.of(task));
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void testCreateTasksAsNonAdminIsForbidden() {
+        authenticate(assignee);
+
+        UserRoleException exception = assertThrows(UserRoleException.class,
+                () -> taskService.createTasks(List.of(taskCreateDto)));
+
+        assertEquals("Only admin can create or delete a task", exception.getMessage());
+        verify(taskRepository, never()).saveAll(any());
     }
 
     @Test
@@ -147,21 +239,144 @@ public class TaskServiceTest {
                 Priority.MEDIUM,
                 userId,
                 assigneeId,
-                null
+                null,
+                null,
+                0L
         );
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(userRepository.findById(assigneeId)).thenReturn(Optional.of(assignee));
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        authenticate(user);
+        when(taskRepository.updateFields(taskId, taskUpdateDto, null, null))
+                .thenReturn(Optional.of(new TaskUpdateResultDto(1L, null)));
+        when(taskRepository.findWithCommentsById(taskId)).thenReturn(Optional.of(task));
         when(taskMapper.toTaskDto(task)).thenReturn(taskDto);
 
-        TaskDto result = taskService.updateTask(taskId, taskUpdateDto);
+        TaskDto result = taskService.updateTask(taskId, taskUpdateDto, null);
 
         assertNotNull(result);
         assertEquals(taskDto.id(), result.id());
         assertEquals(taskDto.description(), result.description());
-        verify(userRepository).findById(userId);
-        verify(taskRepository).findById(taskId);
+        verify(taskRepository).updateFields(taskId, taskUpdateDto, null, null);
+        verify(domainEventPublisher).publish(new TaskUpdated(taskId, null));
         verify(taskMapper).toTaskDto(task);
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void testUpdateTaskVersionMismatch() {
+        task.setVersion(3L);
+        taskUpdateDto = TaskUpdateDto.builder()
+                .userId(userId)
+                .status(Status.IN_PROGRESS)
+                .build();
+        authenticate(user);
+        when(taskRepository.updateFields(taskId, taskUpdateDto, 2L, null)).thenReturn(Optional.empty());
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> taskService.updateTask(taskId, taskUpdateDto, 2L));
+
+        assertEquals("Task with id 2 has been modified, current version is 3", exception.getMessage());
+        verifyNoInteractions(domainEventPublisher);
+    }
+
+    @Test
+    void testPatchTaskByAssigneeOnlyWritesStatus() {
+        taskUpdateDto = TaskUpdateDto.builder()
+                .userId(assigneeId)
+                .status(Status.IN_PROGRESS)
+                .description("Ignored for non-admins")
+                .build();
+        TaskUpdateDto allowedChanges = TaskUpdateDto.builder()
+                .userId(assigneeId)
+                .status(Status.IN_PROGRESS)
+                .build();
+        authenticate(assignee);
+        when(taskRepository.updateFields(taskId, allowedChanges, null, assigneeId))
+                .thenReturn(Optional.of(new TaskUpdateResultDto(5L, assigneeId)));
+
+        Long version = taskService.patchTask(taskId, taskUpdateDto, null);
+
+        assertEquals(5L, version);
+        verify(taskRepository, never()).findById(any());
+        verify(domainEventPublisher).publish(new TaskUpdated(taskId, assigneeId));
+    }
+
+    @Test
+    void testUpdateTaskByNonAssigneeThrowsException() {
+        task.setAssignee(user);
+        taskUpdateDto = TaskUpdateDto.builder()
+                .userId(assigneeId)
+                .status(Status.IN_PROGRESS)
+                .build();
+        authenticate(assignee);
+        when(taskRepository.updateFields(taskId, taskUpdateDto, null, assigneeId)).thenReturn(Optional.empty());
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+
+        UserRoleException exception = assertThrows(UserRoleException.class,
+                () -> taskService.updateTask(taskId, taskUpdateDto, null));
+
+        assertEquals("User does not have permission to update this task", exception.getMessage());
+    }
+
+    @Test
+    void testUpdateMissingTaskThrowsException() {
+        taskUpdateDto = TaskUpdateDto.builder()
+                .userId(userId)
+                .status(Status.IN_PROGRESS)
+                .build();
+        authenticate(user);
+        when(taskRepository.updateFields(taskId, taskUpdateDto, null, null)).thenReturn(Optional.empty());
+        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> taskService.updateTask(taskId, taskUpdateDto, null));
+    }
+
+    @Test
+    void testPatchTaskStatusOnlyDoesNotLoadTask() {
+        taskUpdateDto = TaskUpdateDto.builder()
+                .userId(userId)
+                .status(Status.COMPLETED)
+                .build();
+        authenticate(user);
+        when(taskRepository.updateStatus(taskId, Status.COMPLETED, 3L, null)).thenReturn(1);
+
+        Long version = taskService.patchTask(taskId, taskUpdateDto, 3L);
+
+        assertEquals(4L, version);
+        verify(taskRepository).updateStatus(taskId, Status.COMPLETED, 3L, null);
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void testPatchTaskStatusTakesRoleFromAccessToken() {
+        authenticate(assignee);
+        taskUpdateDto = TaskUpdateDto.builder()
+                .userId(assigneeId)
+                .status(Status.COMPLETED)
+                .build();
+        when(taskRepository.updateStatus(taskId, Status.COMPLETED, null, assigneeId)).thenReturn(1);
+
+        taskService.patchTask(taskId, taskUpdateDto, null);
+
+        verify(taskRepository).updateStatus(taskId, Status.COMPLETED, null, assigneeId);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testPatchTaskStatusByNonAssigneeThrowsException() {
+        assignee.setRole(Role.USER);
+        task.setAssignee(user);
+        taskUpdateDto = TaskUpdateDto.builder()
+                .userId(assigneeId)
+                .status(Status.COMPLETED)
+                .build();
+        authenticate(assignee);
+        when(taskRepository.updateStatus(taskId, Status.COMPLETED, null, assigneeId)).thenReturn(0);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+
+        UserRoleException exception = assertThrows(UserRoleException.class,
+                () -> taskService.patchTask(taskId, taskUpdateDto, null));
+
+        assertEquals("User does not have permission to update this task", exception.getMessage());
     }
 
     @Test
@@ -169,17 +384,25 @@ public class TaskServiceTest {
         user = new User();
         user.setId(userId);
         user.setRole(Role.ADMIN);
-        task = new Task();
-        task.setId(taskId);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        authenticate(user);
+        when(taskRepository.deleteReturningOwners(taskId))
+                .thenReturn(Optional.of(new TaskOwnersDto(taskId, userId, null)));
 
         taskService.deleteTask(userId, taskId);
 
-        verify(userRepository).findById(userId);
-        verify(taskRepository).findById(taskId);
-        verify(taskRepository).delete(task);
+        verify(taskRepository).deleteReturningOwners(taskId);
+        verify(taskRepository, never()).findById(any());
+        verify(domainEventPublisher).publish(new TaskDeleted(taskId, userId, null));
+    }
+
+    @Test
+    void deleteTask_TaskNotFound_ThrowsException() {
+        authenticate(user);
+        when(taskRepository.deleteReturningOwners(taskId)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> taskService.deleteTask(userId, taskId));
+        verifyNoInteractions(domainEventPublisher);
     }
 
     @Test
@@ -188,13 +411,12 @@ public class TaskServiceTest {
         user.setId(userId);
         user.setRole(Role.USER);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        authenticate(user);
 
         UserRoleException exception = assertThrows(UserRoleException.class,
                 () -> taskService.deleteTask(userId, taskId));
 
         assertEquals("Only admin can create or delete a task", exception.getMessage());
-        verify(userRepository).findById(userId);
         verifyNoInteractions(taskRepository);
     }
 
@@ -211,7 +433,9 @@ public class TaskServiceTest {
                 Priority.HIGH,
                 userId,
                 assigneeId,
-                null
+                null,
+                null,
+                0L
         );
 
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
@@ -225,4 +449,11 @@ public class TaskServiceTest {
         verify(taskRepository).findById(taskId);
         verify(taskMapper).toTaskDto(task);
     }
+
+    private void authenticate(User user) {
+        JwtPrincipal principal = new JwtPrincipal(user.getId(), "user@test.com", user.getRole(),
+                Instant.now().plusSeconds(60));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+    }
 }
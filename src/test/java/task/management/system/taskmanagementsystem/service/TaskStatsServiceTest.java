@@ -0,0 +1,122 @@
+package task.management.system.taskmanagementsystem.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import taskmanagementsystem.dto.task.TaskStatsDto;
+import taskmanagementsystem.entity.Priority;
+import taskmanagementsystem.entity.Role;
+import taskmanagementsystem.entity.Status;
+import taskmanagementsystem.entity.TaskCounter;
+import taskmanagementsystem.entity.TaskCounterDelta;
+import taskmanagementsystem.entity.TaskCounterId;
+import taskmanagementsystem.entity.TaskRelation;
+import taskmanagementsystem.exception.UserRoleException;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.repository.TaskCounterDeltaRepository;
+import taskmanagementsystem.repository.TaskCounterRepository;
+import taskmanagementsystem.service.task.TaskStatsServiceImpl;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskStatsServiceTest {
+
+    @Mock
+    private TaskCounterRepository taskCounterRepository;
+    @Mock
+    private TaskCounterDeltaRepository taskCounterDeltaRepository;
+    @InjectMocks
+    private TaskStatsServiceImpl taskStatsService;
+
+    private final Long userId = 1L;
+
+    @BeforeEach
+    void init() {
+        authenticate(userId);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testGetStatsSumsCountersPerRelation() {
+        when(taskCounterRepository.findByIdUserId(userId)).thenReturn(List.of(
+                counter(TaskRelation.AUTHOR, Status.TODO, Priority.HIGH, 2, 5),
+                counter(TaskRelation.AUTHOR, Status.COMPLETED, Priority.HIGH, 1, 3),
+                counter(TaskRelation.AUTHOR, Status.TODO, Priority.LOW, 4, 1),
+                counter(TaskRelation.ASSIGNEE, Status.IN_PROGRESS, Priority.MEDIUM, 3, 7)));
+        when(taskCounterDeltaRepository.findByUserId(userId)).thenReturn(List.of());
+
+        TaskStatsDto stats = taskStatsService.getStats(userId);
+
+        assertEquals(7, stats.authored().tasks());
+        assertEquals(6L, stats.authored().byStatus().get(Status.TODO));
+        assertEquals(0L, stats.authored().byStatus().get(Status.IN_PROGRESS));
+        assertEquals(3L, stats.authored().byPriority().get(Priority.HIGH));
+        assertEquals(9, stats.authored().comments());
+        assertEquals(6, stats.authored().openComments());
+        assertEquals(3, stats.assigned().tasks());
+        assertEquals(7, stats.assigned().openComments());
+    }
+
+    @Test
+    void testGetStatsAddsPendingDeltas() {
+        when(taskCounterRepository.findByIdUserId(userId)).thenReturn(List.of(
+                counter(TaskRelation.AUTHOR, Status.TODO, Priority.HIGH, 2, 5)));
+        when(taskCounterDeltaRepository.findByUserId(userId)).thenReturn(List.of(
+                delta(TaskRelation.AUTHOR, Status.TODO, Priority.HIGH, -1, -2),
+                delta(TaskRelation.AUTHOR, Status.COMPLETED, Priority.HIGH, 1, 2),
+                delta(TaskRelation.ASSIGNEE, Status.TODO, Priority.LOW, 1, 0)));
+
+        TaskStatsDto stats = taskStatsService.getStats(userId);
+
+        assertEquals(2, stats.authored().tasks());
+        assertEquals(1L, stats.authored().byStatus().get(Status.TODO));
+        assertEquals(1L, stats.authored().byStatus().get(Status.COMPLETED));
+        assertEquals(5, stats.authored().comments());
+        assertEquals(3, stats.authored().openComments());
+        assertEquals(1, stats.assigned().tasks());
+    }
+
+    @Test
+    void testGetStatsOfAnotherUserIsForbidden() {
+        authenticate(2L);
+
+        assertThrows(UserRoleException.class, () -> taskStatsService.getStats(userId));
+        verifyNoInteractions(taskCounterRepository, taskCounterDeltaRepository);
+    }
+
+    private TaskCounter counter(TaskRelation relation, Status status, Priority priority, long tasks, long comments) {
+        return new TaskCounter(new TaskCounterId(userId, relation, status, priority), tasks, comments);
+    }
+
+    private TaskCounterDelta delta(TaskRelation relation, Status status, Priority priority, long tasks, long comments) {
+        return TaskCounterDelta.builder()
+                .userId(userId)
+                .relation(relation)
+                .status(status)
+                .priority(priority)
+                .taskDelta(tasks)
+                .commentDelta(comments)
+                .build();
+    }
+
+    private void authenticate(Long id) {
+        JwtPrincipal principal = new JwtPrincipal(id, "user@test.com", Role.USER, Instant.now().plusSeconds(60));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+    }
+}
@@ -0,0 +1,192 @@
+package task.management.system.taskmanagementsystem.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import taskmanagementsystem.dto.comment.CommentDto;
+import taskmanagementsystem.dto.task.TaskChangesDto;
+import taskmanagementsystem.dto.task.TaskDto;
+import taskmanagementsystem.entity.*;
+import taskmanagementsystem.exception.UserRoleException;
+import taskmanagementsystem.jwt.JwtPrincipal;
+import taskmanagementsystem.mapper.CommentMapper;
+import taskmanagementsystem.mapper.TaskMapper;
+import taskmanagementsystem.repository.CommentRepository;
+import taskmanagementsystem.repository.TaskRepository;
+import taskmanagementsystem.repository.TombstoneRepository;
+import taskmanagementsystem.service.task.TaskSyncServiceImpl;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskSyncServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private TombstoneRepository tombstoneRepository;
+    @Mock
+    private TaskMapper taskMapper;
+    @Mock
+    private CommentMapper commentMapper;
+    @InjectMocks
+    private TaskSyncServiceImpl taskSyncService;
+
+    private final Long userId = 1L;
+
+    @BeforeEach
+    void init() {
+        authenticate(userId);
+        lenient().when(taskMapper.toTaskDtoWithoutComments(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            return new TaskDto(task.getId(), null, null, null, null, null, userId, null, null, null);
+        });
+        lenient().when(commentMapper.toCommentDto(any(Comment.class))).thenAnswer(invocation -> {
+            Comment comment = invocation.getArgument(0);
+            return new CommentDto(comment.getId(), null, null, null);
+        });
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testChangesOfAnotherUserAreForbidden() {
+        authenticate(2L);
+
+        assertThrows(UserRoleException.class, () -> taskSyncService.getChanges(userId, 0L, 5));
+        verifyNoInteractions(taskRepository, commentRepository, tombstoneRepository);
+    }
+
+    @Test
+    void testWatermarkAdvancesToHorizonWhenNothingIsTruncated() {
+        when(taskRepository.findChangeHorizon()).thenReturn(20L);
+        stubTasks(task(1L, 12L, 3L));
+        when(tombstoneRepository.findForAssignee(eq(userId), eq(10L), eq(20L), any(Pageable.class)))
+                .thenReturn(List.of(tombstone(5L, TombstoneType.TASK, 15L)));
+
+        TaskChangesDto changes = taskSyncService.getChanges(userId, 10L, 2);
+
+        assertEquals(20L, changes.watermark());
+        assertFalse(changes.hasMore());
+        assertEquals(List.of(1L), taskIds(changes));
+        assertEquals(List.of(5L), changes.removedTaskIds());
+        verify(commentRepository, never()).findByTaskIdInAndChangeXidLessThanOrderById(any(), anyLong());
+    }
+
+    @Test
+    void testWatermarkNeverMovesBack() {
+        when(taskRepository.findChangeHorizon()).thenReturn(20L);
+        stubTasks();
+
+        TaskChangesDto changes = taskSyncService.getChanges(userId, 30L, 2);
+
+        assertEquals(30L, changes.watermark());
+        assertFalse(changes.hasMore());
+        verify(commentRepository).findChangedOnTasksOfAssignee(eq(userId), eq(30L), eq(30L), any(Pageable.class));
+    }
+
+    @Test
+    void testTruncatedListsCutAtFirstTransactionLeftOut() {
+        when(taskRepository.findChangeHorizon()).thenReturn(20L);
+        stubTasks(task(1L, 11L, 0L), task(2L, 12L, 0L), task(3L, 14L, 0L));
+        when(commentRepository.findChangedOnTasksOfAssignee(eq(userId), eq(10L), eq(20L), any(Pageable.class)))
+                .thenReturn(List.of(comment(7L, 11L), comment(8L, 12L), comment(9L, 12L)));
+
+        TaskChangesDto changes = taskSyncService.getChanges(userId, 10L, 2);
+
+        assertEquals(12L, changes.watermark());
+        assertTrue(changes.hasMore());
+        assertEquals(List.of(1L), taskIds(changes));
+        assertEquals(List.of(7L), commentIds(changes));
+    }
+
+    @Test
+    void testTransactionLargerThanPageIsReturnedWhole() {
+        when(taskRepository.findChangeHorizon()).thenReturn(20L);
+        when(taskRepository.findBy(any(Specification.class), any()))
+                .thenReturn(List.of(task(1L, 10L, 0L), task(2L, 10L, 0L), task(3L, 10L, 0L)))
+                .thenReturn(List.of(task(1L, 10L, 0L), task(2L, 10L, 0L), task(3L, 10L, 0L), task(4L, 10L, 0L)));
+
+        TaskChangesDto changes = taskSyncService.getChanges(userId, 10L, 2);
+
+        assertEquals(11L, changes.watermark());
+        assertTrue(changes.hasMore());
+        assertEquals(List.of(1L, 2L, 3L, 4L), taskIds(changes));
+        verify(commentRepository).findChangedOnTasksOfAssignee(eq(userId), eq(10L), eq(11L), argThat(Pageable::isUnpaged));
+    }
+
+    @Test
+    void testNewlyAssignedTaskComesWithEarlierComments() {
+        when(taskRepository.findChangeHorizon()).thenReturn(20L);
+        stubTasks(task(1L, 12L, 12L), task(2L, 13L, 4L));
+        when(commentRepository.findChangedOnTasksOfAssignee(eq(userId), eq(10L), eq(20L), any(Pageable.class)))
+                .thenReturn(List.of(comment(9L, 12L)));
+        when(commentRepository.findByTaskIdInAndChangeXidLessThanOrderById(List.of(1L), 10L))
+                .thenReturn(List.of(comment(7L, 5L), comment(8L, 6L)));
+
+        TaskChangesDto changes = taskSyncService.getChanges(userId, 10L, 5);
+
+        assertEquals(List.of(7L, 8L, 9L), commentIds(changes));
+    }
+
+    @Test
+    void testFullSyncDoesNotReadEarlierComments() {
+        when(taskRepository.findChangeHorizon()).thenReturn(20L);
+        stubTasks(task(1L, 12L, 12L));
+
+        taskSyncService.getChanges(userId, 0L, 5);
+
+        verify(commentRepository, never()).findByTaskIdInAndChangeXidLessThanOrderById(any(), anyLong());
+    }
+
+    private void stubTasks(Task... tasks) {
+        when(taskRepository.findBy(any(Specification.class), any())).thenReturn(List.of(tasks));
+    }
+
+    private static List<Long> taskIds(TaskChangesDto changes) {
+        return changes.tasks().stream().map(TaskDto::id).toList();
+    }
+
+    private static List<Long> commentIds(TaskChangesDto changes) {
+        return changes.comments().stream().map(CommentDto::id).toList();
+    }
+
+    private static Task task(Long id, Long changeXid, Long assignedXid) {
+        return Task.builder().id(id).changeXid(changeXid).assignedXid(assignedXid).build();
+    }
+
+    private static Comment comment(Long id, Long changeXid) {
+        return Comment.builder().id(id).changeXid(changeXid).build();
+    }
+
+    private static Tombstone tombstone(Long entityId, TombstoneType type, Long changeXid) {
+        return Tombstone.builder().entityId(entityId).entityType(type).changeXid(changeXid).build();
+    }
+
+    private void authenticate(Long id) {
+        JwtPrincipal principal = new JwtPrincipal(id, "user@test.com", Role.USER, Instant.now().plusSeconds(60));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+    }
+}